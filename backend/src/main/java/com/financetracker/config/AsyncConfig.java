@@ -0,0 +1,13 @@
+package com.financetracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async on Spring Boot's application task executor, which runs on virtual
+ * threads when spring.threads.virtual.enabled is set.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
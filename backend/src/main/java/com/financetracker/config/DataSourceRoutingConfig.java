@@ -0,0 +1,74 @@
+package com.financetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with primary/replica routing when
+ * datasource.replica.urls is set. Each pool is a Hikari pool configured from
+ * spring.datasource.hikari.* and publishes hikaricp.* metrics tagged with its pool name.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${datasource.replica.urls}") String replicaUrls,
+                                 @Value("${datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+                                 @Value("${datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+                                 @Value("${datasource.replica.sticky-window-ms}") long stickyWindowMillis) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, pool(properties, environment, meterRegistry,
+                ReplicaRoutingDataSource.PRIMARY, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword()));
+
+        List<String> replicaKeys = new ArrayList<>();
+        for (String url : Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(u -> !u.isEmpty()).toList()) {
+            String key = "replica-" + (replicaKeys.size() + 1);
+            HikariDataSource replica = pool(properties, environment, meterRegistry, key, url, replicaUsername, replicaPassword);
+            replica.setReadOnly(true);
+            targets.put(key, replica);
+            replicaKeys.add(key);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaKeys, stickyWindowMillis, meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(ReplicaRoutingDataSource.PRIMARY));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry, String name,
+                                         String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
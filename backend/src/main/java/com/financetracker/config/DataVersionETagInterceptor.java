@@ -0,0 +1,44 @@
+package com.financetracker.config;
+
+import com.financetracker.service.AuthService;
+import com.financetracker.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET for reads of the user's own accounts, transactions and budgets. The
+ * ETag is the user's data version, so a matching If-None-Match is answered with 304
+ * before the handler runs any query or serializes anything.
+ * <p>
+ * The version is read before the data. A write in between only makes the ETag older
+ * than the body, which costs one extra full response but never a stale 304.
+ */
+@Component
+public class DataVersionETagInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        Long userId = authService.getCurrentUserId();
+        String etag = DataVersionService.etag(userId, dataVersionService.currentVersion(userId));
+
+        // Cached per browser, never by shared caches, and always revalidated
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -0,0 +1,117 @@
+package com.financetracker.config;
+
+import com.financetracker.security.AuthenticatedUser;
+import com.financetracker.service.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas, round-robin, and everything else to the
+ * primary. A user who has just written keeps reading from the primary for the sticky
+ * window, so replication lag never hides their own changes from them. Within a web
+ * request every read goes to the same replica, so later queries never see an older state
+ * than earlier ones (the data version checked for conditional GETs, then the data).
+ * <p>
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only visible
+ * once the transaction is set up, after the transaction manager asks for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String REQUEST_REPLICA_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".replica";
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<Long, Boolean> recentWriters;
+    private final Counter writeRoutes;
+    private final Counter nonTransactionalRoutes;
+    private final Counter stickyRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(List<String> replicaKeys, long stickyWindowMillis, MeterRegistry meterRegistry) {
+        this.replicaKeys = List.copyOf(replicaKeys);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyWindowMillis))
+                .build();
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "write");
+        this.nonTransactionalRoutes = routeCounter(meterRegistry, PRIMARY, "non-transactional");
+        this.stickyRoutes = routeCounter(meterRegistry, PRIMARY, "sticky");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Autocommit statements outside any transaction: the primary, without pinning
+            // the user, since most of them are reads
+            nonTransactionalRoutes.increment();
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoutes.increment();
+            if (userId != null) {
+                markWriter(userId);
+            }
+            return PRIMARY;
+        }
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            stickyRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replicaForRequest();
+    }
+
+    private String replicaForRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return nextReplica();
+        }
+        String replica = (String) attributes.getAttribute(REQUEST_REPLICA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (replica == null) {
+            replica = nextReplica();
+            attributes.setAttribute(REQUEST_REPLICA_ATTRIBUTE, replica, RequestAttributes.SCOPE_REQUEST);
+        }
+        return replica;
+    }
+
+    private String nextReplica() {
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // The window is restarted at commit so it covers the replication of the whole write
+    private void markWriter(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+        TransactionHooks.afterCommit(() -> recentWriters.put(userId, Boolean.TRUE));
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route, String reason) {
+        return Counter.builder("datasource.routes")
+                .description("Connections handed out per datasource route")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
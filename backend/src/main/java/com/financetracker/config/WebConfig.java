@@ -0,0 +1,28 @@
+package com.financetracker.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private DataVersionETagInterceptor dataVersionETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Excluded reads also depend on exchange rates, today's date or the per-instance
+        // search index, not only on the user's data
+        registry.addInterceptor(dataVersionETagInterceptor)
+                .addPathPatterns("/api/accounts/**", "/api/transactions/**", "/api/budgets/**")
+                .excludePathPatterns(
+                    "/api/accounts/total-balance",
+                    "/api/budgets/current",
+                    "/api/transactions/report",
+                    "/api/transactions/cash-flow",
+                    "/api/transactions/search",
+                    "/api/transactions/export");
+    }
+}
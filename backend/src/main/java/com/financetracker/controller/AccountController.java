@@ -1,6 +1,7 @@
 package com.financetracker.controller;
 
 import com.financetracker.dto.MessageResponse;
+import com.financetracker.dto.NetWorthResponse;
 import com.financetracker.model.Account;
 import com.financetracker.service.AccountService;
 import jakarta.validation.Valid;
@@ -8,9 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/accounts")
@@ -27,49 +26,27 @@ public class AccountController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getAccountById(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(accountService.getAccountById(id));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(accountService.getAccountById(id));
     }
 
     @PostMapping
     public ResponseEntity<?> createAccount(@Valid @RequestBody Account account) {
-        try {
-            return ResponseEntity.ok(accountService.createAccount(account));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(accountService.createAccount(account));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAccount(@PathVariable Long id, @Valid @RequestBody Account account) {
-        try {
-            return ResponseEntity.ok(accountService.updateAccount(id, account));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(accountService.updateAccount(id, account));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteAccount(@PathVariable Long id) {
-        try {
-            accountService.deleteAccount(id);
-            return ResponseEntity.ok(new MessageResponse("Account deleted successfully"));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        accountService.deleteAccount(id);
+        return ResponseEntity.ok(new MessageResponse("Account deleted successfully"));
     }
 
     @GetMapping("/total-balance")
-    public ResponseEntity<Map<String, Object>> getTotalBalance() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("totalBalance", accountService.getTotalBalance());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<NetWorthResponse> getTotalBalance(@RequestParam(required = false) String currency) {
+        return ResponseEntity.ok(accountService.getNetWorth(currency));
     }
 }
@@ -5,9 +5,12 @@ import com.financetracker.dto.LoginRequest;
 import com.financetracker.dto.MessageResponse;
 import com.financetracker.dto.RegisterRequest;
 import com.financetracker.model.User;
+import com.financetracker.security.AuthCapacityException;
 import com.financetracker.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,9 +27,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.register(request);
             return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
+        } catch (AuthCapacityException e) {
+            return busy(e);
         }
     }
 
@@ -35,6 +37,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(request);
             return ResponseEntity.ok(response);
+        } catch (AuthCapacityException e) {
+            return busy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Invalid email or password"));
@@ -43,12 +47,19 @@ public class AuthController {
 
     @GetMapping("/profile")
     public ResponseEntity<?> getProfile() {
-        try {
-            User user = authService.getCurrentUser();
-            return ResponseEntity.ok(user);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        User user = authService.getCurrentUser();
+        return ResponseEntity.ok(user);
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll() {
+        authService.revokeAllTokens();
+        return ResponseEntity.ok(new MessageResponse("All sessions have been signed out"));
+    }
+
+    private ResponseEntity<MessageResponse> busy(AuthCapacityException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new MessageResponse(e.getMessage()));
     }
 }
@@ -31,12 +31,7 @@ public class BudgetController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getBudgetById(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(budgetService.getBudgetById(id));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(budgetService.getBudgetById(id));
     }
 
     @GetMapping("/month/{month}/year/{year}")
@@ -48,32 +43,17 @@ public class BudgetController {
 
     @PostMapping
     public ResponseEntity<?> createBudget(@Valid @RequestBody BudgetRequest request) {
-        try {
-            return ResponseEntity.ok(budgetService.createBudget(request));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(budgetService.createBudget(request));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateBudget(@PathVariable Long id, @Valid @RequestBody BudgetRequest request) {
-        try {
-            return ResponseEntity.ok(budgetService.updateBudget(id, request));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(budgetService.updateBudget(id, request));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteBudget(@PathVariable Long id) {
-        try {
-            budgetService.deleteBudget(id);
-            return ResponseEntity.ok(new MessageResponse("Budget deleted successfully"));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        budgetService.deleteBudget(id);
+        return ResponseEntity.ok(new MessageResponse("Budget deleted successfully"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.financetracker.controller;
+
+import com.financetracker.dto.FxRateRequest;
+import com.financetracker.model.FxRate;
+import com.financetracker.service.FxRateService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/fx-rates")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FxRateController {
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getRates() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("referenceCurrency", fxRateService.getReferenceCurrency());
+        response.put("rates", fxRateService.getRates());
+        return ResponseEntity.ok(response);
+    }
+
+    // Restricted to admins in SecurityConfig
+    @PutMapping("/{currency}")
+    public ResponseEntity<FxRate> setRate(@PathVariable String currency, @Valid @RequestBody FxRateRequest request) {
+        return ResponseEntity.ok(fxRateService.setRate(currency, request.getRate()));
+    }
+}
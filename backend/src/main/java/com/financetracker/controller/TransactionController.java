@@ -1,16 +1,26 @@
 package com.financetracker.controller;
 
 import com.financetracker.dto.MessageResponse;
+import com.financetracker.dto.TransactionFilter;
 import com.financetracker.dto.TransactionRequest;
-import com.financetracker.dto.TransactionResponse;
+import com.financetracker.exception.BadRequestException;
 import com.financetracker.model.Transaction;
+import com.financetracker.service.CashFlowService;
+import com.financetracker.service.TransactionExportService;
+import com.financetracker.service.TransactionImportService;
+import com.financetracker.service.TransactionSearchService;
 import com.financetracker.service.TransactionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -22,66 +32,139 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private CashFlowService cashFlowService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
-        return ResponseEntity.ok(transactionService.getAllTransactionsForCurrentUser());
+    public ResponseEntity<?> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(transactionService.getAllTransactionsForCurrentUser());
+        }
+        return ResponseEntity.ok(transactionService.getTransactionPageForCurrentUser(cursor, size));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getTransactionById(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(transactionService.getTransactionById(id));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(transactionService.getTransactionById(id));
     }
 
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<?> getTransactionsByAccount(@PathVariable Long accountId) {
-        try {
-            return ResponseEntity.ok(transactionService.getTransactionsByAccount(accountId));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
+    public ResponseEntity<?> getTransactionsByAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor != null || size != null) {
+            return ResponseEntity.ok(transactionService.getTransactionPageByAccount(accountId, cursor, size));
         }
+        return ResponseEntity.ok(transactionService.getTransactionsByAccount(accountId));
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByDateRange(
+    public ResponseEntity<?> getTransactionsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(transactionService.getTransactionsByDateRange(startDate, endDate));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(transactionService.getTransactionsByDateRange(startDate, endDate));
+        }
+        return ResponseEntity.ok(transactionService.getTransactionPageByDateRange(startDate, endDate, cursor, size));
+    }
+
+    @GetMapping("/report")
+    public ResponseEntity<?> getReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(transactionService.getReport(startDate, endDate));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterTransactions(
+            @ModelAttribute TransactionFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(transactionService.filterTransactions(filter, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(transactionSearchService.search(q, cursor, size));
+    }
+
+    @GetMapping("/cash-flow")
+    public ResponseEntity<?> getCashFlow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "month") String interval) {
+        return ResponseEntity.ok(cashFlowService.getCashFlow(startDate, endDate, interval));
+    }
+
+    /**
+     * Streams the full ledger to the response as it is read, rather than building
+     * a response body in memory.
+     */
+    @GetMapping("/export")
+    public void exportTransactions(@RequestParam(defaultValue = "csv") String format,
+                                   HttpServletResponse response) throws IOException {
+        TransactionExportService.Format exportFormat;
+        try {
+            exportFormat = TransactionExportService.Format.fromParameter(format);
+        } catch (BadRequestException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transactions." + exportFormat.getExtension() + "\"");
+        transactionExportService.exportForCurrentUser(exportFormat, response.getWriter());
     }
 
     @PostMapping
     public ResponseEntity<?> createTransaction(@Valid @RequestBody TransactionRequest request) {
+        return ResponseEntity.ok(transactionService.createTransaction(request));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> createTransactions(@RequestBody List<TransactionRequest> requests) {
+        return ResponseEntity.ok(transactionService.createTransactions(requests));
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<?> importTransactions(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long accountId) {
         try {
-            return ResponseEntity.ok(transactionService.createTransaction(request));
-        } catch (RuntimeException e) {
+            return ResponseEntity.ok(transactionImportService.importCsv(file.getInputStream(), accountId));
+        } catch (IOException e) {
             return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
+                    .body(new MessageResponse("Could not read import file: " + e.getMessage()));
         }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTransaction(@PathVariable Long id, @Valid @RequestBody TransactionRequest request) {
-        try {
-            return ResponseEntity.ok(transactionService.updateTransaction(id, request));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        return ResponseEntity.ok(transactionService.updateTransaction(id, request));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTransaction(@PathVariable Long id) {
-        try {
-            transactionService.deleteTransaction(id);
-            return ResponseEntity.ok(new MessageResponse("Transaction deleted successfully"));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse(e.getMessage()));
-        }
+        transactionService.deleteTransaction(id);
+        return ResponseEntity.ok(new MessageResponse("Transaction deleted successfully"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private boolean success;
+    private TransactionResponse transaction;
+    private String error;
+
+    public static BatchItemResult created(int index, TransactionResponse transaction) {
+        return new BatchItemResult(index, true, transaction, null);
+    }
+
+    public static BatchItemResult rejected(int index, String error) {
+        return new BatchItemResult(index, false, null, error);
+    }
+}
@@ -0,0 +1,38 @@
+package com.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Income and expenses per period. The running balance is the cumulative net cash flow
+ * (income minus expenses, transfers excluded), starting from {@code openingBalance},
+ * the net flow of everything dated before {@code startDate}.
+ */
+@Data
+@NoArgsConstructor
+public class CashFlowResponse {
+    private String interval;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+    private List<Point> points = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate periodStart;
+        private LocalDate periodEnd;
+        private BigDecimal income;
+        private BigDecimal expenses;
+        private BigDecimal net;
+        private BigDecimal runningBalance;
+        private long transactionCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.financetracker.dto;
+
+import com.financetracker.model.Account;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the dashboard page shows, in one response. A section that could not be
+ * loaded within the time budget is left null and named in {@code unavailableSections}.
+ * Currencies without an exchange rate are left out of {@code totalBalance} and listed
+ * in {@code missingRates}.
+ */
+@Data
+@NoArgsConstructor
+public class DashboardResponse {
+    private BigDecimal totalBalance;
+    private String baseCurrency;
+    private List<String> missingRates = new ArrayList<>();
+    private List<Account> accounts;
+    private List<TransactionResponse> recentTransactions;
+    private List<BudgetResponse> currentMonthBudgets;
+    private List<String> unavailableSections = new ArrayList<>();
+}
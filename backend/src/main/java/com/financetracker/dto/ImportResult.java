@@ -0,0 +1,30 @@
+package com.financetracker.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImportResult {
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+    }
+}
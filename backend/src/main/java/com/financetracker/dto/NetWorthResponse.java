@@ -0,0 +1,32 @@
+package com.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Account balances summed per currency and converted to {@code baseCurrency}.
+ * Currencies without a known rate are listed in {@code missingRates} and left out
+ * of {@code totalBalance}.
+ */
+@Data
+@NoArgsConstructor
+public class NetWorthResponse {
+    private String baseCurrency;
+    private BigDecimal totalBalance = BigDecimal.ZERO;
+    private List<CurrencyBalance> balancesByCurrency = new ArrayList<>();
+    private List<String> missingRates = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CurrencyBalance {
+        private String currency;
+        private BigDecimal balance;
+        private BigDecimal convertedBalance;
+    }
+}
@@ -0,0 +1,32 @@
+package com.financetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ReportResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalIncome = BigDecimal.ZERO;
+    private BigDecimal totalExpenses = BigDecimal.ZERO;
+    private BigDecimal netIncome = BigDecimal.ZERO;
+    private long transactionCount;
+    private List<CategoryTotal> incomeByCategory = new ArrayList<>();
+    private List<CategoryTotal> expensesByCategory = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryTotal {
+        private String category;
+        private BigDecimal amount;
+        private long count;
+    }
+}
@@ -0,0 +1,28 @@
+package com.financetracker.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Criteria for GET /api/transactions/filter. Every field is optional; list fields
+ * match any of their values and are bound from repeated query parameters.
+ */
+@Data
+@NoArgsConstructor
+public class TransactionFilter {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private List<String> type;
+    private List<String> category;
+    private List<Long> accountId;
+    private String description;
+}
@@ -2,6 +2,7 @@ package com.financetracker.dto;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -20,6 +21,7 @@ public class TransactionRequest {
     @Positive(message = "Amount must be positive")
     private BigDecimal amount;
     
+    @Size(max = 255, message = "Description must be at most 255 characters")
     private String description;
     
     @NotNull(message = "Transaction date is required")
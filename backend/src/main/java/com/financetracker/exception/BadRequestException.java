@@ -0,0 +1,13 @@
+package com.financetracker.exception;
+
+/**
+ * The request is invalid as sent, and the message says why in terms the client can
+ * act on. Answered with 400 and the message; any other unexpected exception is a 500
+ * without one. Expected on normal request paths, so no stack trace is captured.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
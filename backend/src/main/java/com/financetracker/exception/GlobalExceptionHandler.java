@@ -0,0 +1,67 @@
+package com.financetracker.exception;
+
+import com.financetracker.dto.MessageResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * Maps service exceptions to responses for all controllers. Only messages written for
+ * the client are echoed; anything unexpected is logged and answered with a fixed one.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<MessageResponse> handleNotFound(ResourceNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new MessageResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<MessageResponse> handleBadRequest(BadRequestException e) {
+        return ResponseEntity.badRequest()
+                .body(new MessageResponse(e.getMessage()));
+    }
+
+    // Usually a unique key lost to a concurrent write; the constraint details stay in the log
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<MessageResponse> handleConflict(DataIntegrityViolationException e) {
+        log.info("Request conflicted with stored data", e);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new MessageResponse("The request conflicts with existing data"));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<MessageResponse> handleUnreadable(HttpMessageNotReadableException e) {
+        return ResponseEntity.badRequest()
+                .body(new MessageResponse("Malformed request body"));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<MessageResponse> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        return ResponseEntity.badRequest()
+                .body(new MessageResponse("Invalid value for parameter " + e.getName()));
+    }
+
+    // Framework exceptions keep their own status; everything else is a server error
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<MessageResponse> handleRuntime(RuntimeException e) {
+        if (e instanceof ErrorResponse errorResponse) {
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .body(new MessageResponse(errorResponse.getBody().getDetail()));
+        }
+        log.error("Unhandled exception", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new MessageResponse("Internal server error"));
+    }
+}
@@ -0,0 +1,13 @@
+package com.financetracker.exception;
+
+/**
+ * The requested entity does not exist or is not owned by the current user. Both cases
+ * answer 404 so ids of other users' data are not confirmed. Expected on normal request
+ * paths, so no stack trace is captured.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -58,7 +58,11 @@ public class Account {
     @JsonIgnore
     private User user;
 
-    @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Not cascaded on refresh: services refresh an account after an in-database balance
+    // increment, which must not load every transaction of the account
+    @OneToMany(mappedBy = "account",
+               cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE, CascadeType.DETACH},
+               orphanRemoval = true)
     @JsonIgnore
     private Set<Transaction> transactions = new HashSet<>();
 
@@ -25,9 +25,11 @@ public class Budget {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Stored as categories.id; resolve new names through CategoryDictionary before saving
     @NotBlank
     @Size(max = 50)
-    @Column(nullable = false)
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "category_id", nullable = false)
     private String category;
 
     @NotNull
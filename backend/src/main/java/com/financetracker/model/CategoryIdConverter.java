@@ -0,0 +1,31 @@
+package com.financetracker.model;
+
+import com.financetracker.service.CategoryDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Stores a category name as its categories.id. Entities and queries keep working with
+ * names; a name with no category converts to null, which matches no rows.
+ *
+ * <p>Hibernate creates this through the Spring bean container while the entity manager
+ * factory is being built, so the dictionary (which needs a repository) is looked up lazily.
+ */
+@Converter
+public class CategoryIdConverter implements AttributeConverter<String, Long> {
+
+    @Autowired
+    private ObjectProvider<CategoryDictionary> categoryDictionary;
+
+    @Override
+    public Long convertToDatabaseColumn(String name) {
+        return categoryDictionary.getObject().findId(name);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long id) {
+        return categoryDictionary.getObject().nameFor(id);
+    }
+}
@@ -0,0 +1,53 @@
+package com.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Running total of a user's transactions per type, category and month. Maintained
+ * incrementally by the transaction write paths; never edited directly.
+ */
+@Entity
+@Table(name = "category_monthly_totals",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_category_monthly_totals_key",
+           columnNames = {"user_id", "type", "category", "year", "month"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryMonthlyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Transaction.TransactionType type;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal total = BigDecimal.ZERO;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long count = 0L;
+
+    // Incremented by every change to the row; cached cash-flow periods are checked against it
+    @Column(nullable = false)
+    private Long revision = 0L;
+}
@@ -0,0 +1,35 @@
+package com.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Value of one unit of {@code currency} expressed in the reference currency.
+ */
+@Entity
+@Table(name = "fx_rates")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FxRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 10)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 8)
+    private BigDecimal rate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -21,8 +21,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Transaction {
 
+    // Pooled sequence (a table on MySQL) rather than IDENTITY, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -33,13 +35,18 @@ public class Transaction {
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal amount;
 
+    // Stored as categories.id; resolve new names through CategoryDictionary before saving
     @NotBlank
     @Size(max = 50)
-    @Column(nullable = false)
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "category_id", nullable = false)
     private String category;
 
-    @Size(max = 255)
-    private String description;
+    // Shared dictionary entry; set through DescriptionDictionary.entryFor
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "description_id")
+    @JsonIgnore
+    private TransactionDescription descriptionEntry;
 
     @NotNull
     @Column(name = "transaction_date", nullable = false)
@@ -55,6 +62,10 @@ public class Transaction {
     @JsonIgnore
     private Account account;
 
+    public String getDescription() {
+        return descriptionEntry != null ? descriptionEntry.getDescription() : null;
+    }
+
     public enum TransactionType {
         INCOME,
         EXPENSE,
@@ -0,0 +1,34 @@
+package com.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * One distinct transaction description. Rows are shared by every transaction with the
+ * same text and never change once written.
+ */
+@Entity
+@Immutable
+@Table(name = "transaction_descriptions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionDescription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the UTF-8 text, in a fixed-length BINARY(32) column
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(nullable = false, unique = true, length = 32)
+    private byte[] hash;
+
+    @Column(nullable = false)
+    private String description;
+}
@@ -1,5 +1,7 @@
 package com.financetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.financetracker.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,6 +9,8 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,7 +19,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -51,6 +58,10 @@ public class User {
     @Column(nullable = false)
     private Boolean active = true;
 
+    // Embedded in issued tokens; incrementing it revokes all of the user's tokens
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -61,9 +72,11 @@ public class User {
 
     // Relationships
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
     private Set<Account> accounts = new HashSet<>();
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
     private Set<Budget> budgets = new HashSet<>();
 
     public enum Role {
@@ -0,0 +1,24 @@
+package com.financetracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counter incremented by every write to a user's accounts, transactions or budgets.
+ */
+@Entity
+@Table(name = "user_data_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDataVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -2,12 +2,37 @@ package com.financetracker.repository;
 
 import com.financetracker.model.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     
+    // Not second-level cached: balances change on every transaction write, each of which
+    // would evict the whole region, and a per-instance copy goes stale under other instances
     List<Account> findByUserId(Long userId);
+    
+    @Query("SELECT a.currency AS currency, SUM(a.balance) AS total FROM Account a " +
+           "WHERE a.user.id = :userId GROUP BY a.currency")
+    List<CurrencyTotalView> sumBalanceByCurrency(@Param("userId") Long userId);
+    
+    Optional<Account> findByIdAndUserId(Long id, Long userId);
+    
+    boolean existsByIdAndUserId(Long id, Long userId);
+    
+    // Atomic increment in the database, so concurrent writers cannot lose updates
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = LOCAL DATETIME WHERE a.id = :id")
+    int addToBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
+    
+    interface CurrencyTotalView {
+        String getCurrency();
+        BigDecimal getTotal();
+    }
 }
@@ -2,8 +2,12 @@ package com.financetracker.repository;
 
 import com.financetracker.model.Budget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +16,8 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     
     List<Budget> findByUserId(Long userId);
     
+    Optional<Budget> findByIdAndUserId(Long id, Long userId);
+    
     List<Budget> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year);
     
     Optional<Budget> findByUserIdAndCategoryAndMonthAndYear(
@@ -20,4 +26,21 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
         Integer month, 
         Integer year
     );
+    
+    // Atomic increment of spent, floored at zero; a no-op when no budget exists for the key
+    @Modifying
+    @Query("UPDATE Budget b SET b.spent = CASE WHEN b.spent + :delta < 0 THEN 0 ELSE b.spent + :delta END, " +
+           "b.updatedAt = LOCAL DATETIME " +
+           "WHERE b.user.id = :userId AND b.category = :category AND b.month = :month AND b.year = :year")
+    int addToSpent(
+        @Param("userId") Long userId,
+        @Param("category") String category,
+        @Param("month") Integer month,
+        @Param("year") Integer year,
+        @Param("delta") BigDecimal delta
+    );
+    
+    @Modifying
+    @Query("UPDATE Budget b SET b.spent = b.spent + :delta, b.updatedAt = LOCAL DATETIME WHERE b.id = :id")
+    int addToSpentById(@Param("id") Long id, @Param("delta") BigDecimal delta);
 }
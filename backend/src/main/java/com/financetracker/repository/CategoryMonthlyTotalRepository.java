@@ -0,0 +1,79 @@
+package com.financetracker.repository;
+
+import com.financetracker.model.CategoryMonthlyTotal;
+import com.financetracker.model.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryMonthlyTotalRepository extends JpaRepository<CategoryMonthlyTotal, Long> {
+    
+    Optional<CategoryMonthlyTotal> findByUserIdAndTypeAndCategoryAndYearAndMonth(
+        Long userId,
+        Transaction.TransactionType type,
+        String category,
+        Integer year,
+        Integer month
+    );
+    
+    // Atomic in-database increment; creates the row on first use. The query space keeps
+    // Hibernate from evicting the whole second-level cache after this native write.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_totals"))
+    @Query(value = "INSERT INTO category_monthly_totals (user_id, type, category, year, month, total, txn_count, revision) " +
+                   "VALUES (:userId, :type, :category, :year, :month, :amount, :count, 1) " +
+                   "ON DUPLICATE KEY UPDATE total = total + VALUES(total), txn_count = txn_count + VALUES(txn_count), " +
+                   "revision = revision + 1",
+           nativeQuery = true)
+    void addDelta(
+        @Param("userId") Long userId,
+        @Param("type") String type,
+        @Param("category") String category,
+        @Param("year") int year,
+        @Param("month") int month,
+        @Param("amount") BigDecimal amount,
+        @Param("count") long count
+    );
+    
+    @Query("SELECT r.type AS type, r.category AS category, SUM(r.total) AS total, SUM(r.count) AS count " +
+           "FROM CategoryMonthlyTotal r WHERE r.userId = :userId " +
+           "AND (r.year > :fromYear OR (r.year = :fromYear AND r.month >= :fromMonth)) " +
+           "AND (r.year < :toYear OR (r.year = :toYear AND r.month <= :toMonth)) " +
+           "GROUP BY r.type, r.category HAVING SUM(r.count) > 0")
+    List<TransactionRepository.CategoryTotalView> sumByTypeAndCategory(
+        @Param("userId") Long userId,
+        @Param("fromYear") int fromYear,
+        @Param("fromMonth") int fromMonth,
+        @Param("toYear") int toYear,
+        @Param("toMonth") int toMonth
+    );
+    
+    // Per month and type up to the given month, for the cash-flow opening balance and cache checks
+    @Query("SELECT r.year AS year, r.month AS month, r.type AS type, SUM(r.total) AS total, " +
+           "SUM(r.revision) AS revision FROM CategoryMonthlyTotal r WHERE r.userId = :userId " +
+           "AND (r.year < :toYear OR (r.year = :toYear AND r.month <= :toMonth)) " +
+           "GROUP BY r.year, r.month, r.type")
+    List<MonthTotalView> sumByMonthThrough(
+        @Param("userId") Long userId,
+        @Param("toYear") int toYear,
+        @Param("toMonth") int toMonth
+    );
+    
+    interface MonthTotalView {
+        Integer getYear();
+        Integer getMonth();
+        Transaction.TransactionType getType();
+        BigDecimal getTotal();
+        Long getRevision();
+    }
+}
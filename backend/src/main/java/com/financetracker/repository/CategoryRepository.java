@@ -1,9 +1,17 @@
 package com.financetracker.repository;
 
 import com.financetracker.model.Category;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +19,16 @@ import java.util.Optional;
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     Optional<Category> findByName(String name);
+
+    // Locking read after an INSERT IGNORE: it sees rows a concurrent writer committed
+    // after this transaction's snapshot was taken, which a plain read would miss.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM Category c WHERE c.name IN :names")
+    List<Category> findByNameInForShare(@Param("names") Collection<String> names);
     
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-queries")
+    })
     List<Category> findByType(Category.CategoryType type);
 }
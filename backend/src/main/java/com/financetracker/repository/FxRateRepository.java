@@ -0,0 +1,13 @@
+package com.financetracker.repository;
+
+import com.financetracker.model.FxRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, Long> {
+    
+    Optional<FxRate> findByCurrency(String currency);
+}
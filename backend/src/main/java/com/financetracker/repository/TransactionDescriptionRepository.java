@@ -0,0 +1,24 @@
+package com.financetracker.repository;
+
+import com.financetracker.model.TransactionDescription;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransactionDescriptionRepository extends JpaRepository<TransactionDescription, Long> {
+
+    List<TransactionDescription> findByHashIn(Collection<byte[]> hashes);
+
+    // Locking read after an INSERT IGNORE: it sees rows a concurrent writer committed
+    // after this transaction's snapshot was taken, which a plain read would miss.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT d FROM TransactionDescription d WHERE d.hash IN :hashes")
+    List<TransactionDescription> findByHashInForShare(@Param("hashes") Collection<byte[]> hashes);
+}
@@ -1,25 +1,44 @@
 package com.financetracker.repository;
 
 import com.financetracker.model.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
     
     List<Transaction> findByAccountId(Long accountId);
     
+    // Listing queries fetch the account and description with each row; TransactionResponse reads them
+    @EntityGraph(attributePaths = {"account", "descriptionEntry"})
     List<Transaction> findByAccountIdOrderByTransactionDateDesc(Long accountId);
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId ORDER BY t.transactionDate DESC")
+    // Owner-scoped lookup: a transaction of another user is indistinguishable from a missing one
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE t.id = :id AND a.user.id = :userId")
+    Optional<Transaction> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.user.id = :userId ORDER BY t.transactionDate DESC")
     List<Transaction> findByUserIdOrderByTransactionDateDesc(@Param("userId") Long userId);
     
-    @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId " +
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.user.id = :userId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
            "ORDER BY t.transactionDate DESC")
     List<Transaction> findByUserIdAndDateRange(
@@ -27,4 +46,125 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+    
+    // Keyset pages ordered by (transactionDate DESC, id DESC): rows strictly after the cursor position
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.user.id = :userId " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageByUserId(
+        @Param("userId") Long userId,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.id = :accountId " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageByAccountId(
+        @Param("accountId") Long accountId,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.user.id = :userId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageByUserIdAndDateRange(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    // Fetch size Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time
+    // instead of buffering the whole result set in the driver
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE a.user.id = :userId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT t.type AS type, t.category AS category, SUM(t.amount) AS total, COUNT(t) AS count " +
+           "FROM Transaction t WHERE t.account.user.id = :userId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY t.type, t.category")
+    List<CategoryTotalView> sumByTypeAndCategory(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+    
+    // One account's totals per type, category and month, for reversing them on account delete
+    @Query("SELECT t.type AS type, t.category AS category, YEAR(t.transactionDate) AS year, " +
+           "MONTH(t.transactionDate) AS month, SUM(t.amount) AS total, COUNT(t) AS count " +
+           "FROM Transaction t WHERE t.account.id = :accountId " +
+           "GROUP BY t.type, t.category, YEAR(t.transactionDate), MONTH(t.transactionDate)")
+    List<MonthlyCategoryTotalView> sumByMonthAndCategory(@Param("accountId") Long accountId);
+    
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.descriptionEntry WHERE t.id IN :ids AND a.user.id = :userId")
+    List<Transaction> findAllByIdInAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
+    
+    // Text of every transaction of a user, for building the search index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT t.id AS id, t.transactionDate AS transactionDate, d.description AS description, " +
+           "t.category AS category FROM Transaction t LEFT JOIN t.descriptionEntry d " +
+           "WHERE t.account.user.id = :userId")
+    Stream<SearchTextView> streamSearchTextByUserId(@Param("userId") Long userId);
+    
+    // Per-day totals for the cash-flow series; a few rows per day, so not streamed
+    @Query("SELECT t.transactionDate AS transactionDate, t.type AS type, SUM(t.amount) AS total, COUNT(t) AS count " +
+           "FROM Transaction t WHERE t.account.user.id = :userId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY t.transactionDate, t.type ORDER BY t.transactionDate")
+    List<DailyTotalView> sumByDay(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    interface CategoryTotalView {
+        Transaction.TransactionType getType();
+        String getCategory();
+        BigDecimal getTotal();
+        Long getCount();
+    }
+    
+    interface MonthlyCategoryTotalView {
+        Transaction.TransactionType getType();
+        String getCategory();
+        Integer getYear();
+        Integer getMonth();
+        BigDecimal getTotal();
+        Long getCount();
+    }
+    
+    interface DailyTotalView {
+        LocalDate getTransactionDate();
+        Transaction.TransactionType getType();
+        BigDecimal getTotal();
+        Long getCount();
+    }
+    
+    interface SearchTextView {
+        Long getId();
+        LocalDate getTransactionDate();
+        String getDescription();
+        String getCategory();
+    }
 }
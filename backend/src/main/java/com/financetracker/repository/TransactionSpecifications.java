@@ -0,0 +1,86 @@
+package com.financetracker.repository;
+
+import com.financetracker.model.Account;
+import com.financetracker.model.Transaction;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Predicates for the transaction filter. Each one is added only when its criterion is
+ * supplied, so the generated WHERE clause matches the shape of the request.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    /**
+     * Restricts to the user's transactions and fetches each row's account and description with it.
+     */
+    @SuppressWarnings("unchecked")
+    public static Specification<Transaction> ownedBy(Long userId) {
+        return (root, query, cb) -> {
+            Join<Transaction, Account> account;
+            if (Long.class == query.getResultType() || long.class == query.getResultType()) {
+                account = root.join("account");
+            } else {
+                account = (Join<Transaction, Account>) root.<Transaction, Account>fetch("account", JoinType.INNER);
+                root.fetch("descriptionEntry", JoinType.LEFT);
+            }
+            return cb.equal(account.get("user").get("id"), userId);
+        };
+    }
+
+    public static Specification<Transaction> dateFrom(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDate"), startDate);
+    }
+
+    public static Specification<Transaction> dateTo(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDate"), endDate);
+    }
+
+    public static Specification<Transaction> amountAtLeast(BigDecimal minAmount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Transaction> amountAtMost(BigDecimal maxAmount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
+    }
+
+    public static Specification<Transaction> typeIn(Collection<Transaction.TransactionType> types) {
+        return (root, query, cb) -> root.get("type").in(types);
+    }
+
+    public static Specification<Transaction> categoryIn(Collection<String> categories) {
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    public static Specification<Transaction> accountIn(Collection<Long> accountIds) {
+        return (root, query, cb) -> root.get("account").get("id").in(accountIds);
+    }
+
+    // Substring match; it cannot use an index, so it only narrows rows found through the others
+    public static Specification<Transaction> descriptionContains(String text) {
+        String pattern = "%" + text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(
+            cb.lower(root.join("descriptionEntry").get("description")), pattern, '\\');
+    }
+
+    /**
+     * Rows strictly after a keyset position in (transactionDate DESC, id DESC) order.
+     */
+    public static Specification<Transaction> before(LocalDate cursorDate, Long cursorId) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("transactionDate"), cursorDate),
+            cb.and(cb.equal(root.get("transactionDate"), cursorDate), cb.lessThan(root.get("id"), cursorId)));
+    }
+}
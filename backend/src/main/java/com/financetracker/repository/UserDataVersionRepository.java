@@ -0,0 +1,28 @@
+package com.financetracker.repository;
+
+import com.financetracker.model.UserDataVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserDataVersionRepository extends JpaRepository<UserDataVersion, Long> {
+
+    @Query("SELECT v.version FROM UserDataVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+
+    // Atomic in-database increment; creates the row on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_data_versions"))
+    @Query(value = "INSERT INTO user_data_versions (user_id, version) VALUES (:userId, 1) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1",
+           nativeQuery = true)
+    void increment(@Param("userId") Long userId);
+}
@@ -2,6 +2,8 @@ package com.financetracker.repository;
 
 import com.financetracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     
     Boolean existsByEmail(String email);
+    
+    @Query("SELECT u.tokenVersion AS tokenVersion, u.role AS role FROM User u WHERE u.id = :id AND u.active = true")
+    Optional<TokenStateView> findActiveTokenStateById(@Param("id") Long id);
+    
+    interface TokenStateView {
+        Integer getTokenVersion();
+        User.Role getRole();
+    }
 }
@@ -0,0 +1,12 @@
+package com.financetracker.security;
+
+/**
+ * Thrown when the password hashing pool is saturated, so the caller can answer
+ * 503 immediately instead of queueing behind other logins.
+ */
+public class AuthCapacityException extends RuntimeException {
+
+    public AuthCapacityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,90 @@
+package com.financetracker.security;
+
+import com.financetracker.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Security principal carrying the user id, so services can scope queries without
+ * loading the User entity. Built from the database on login, and either from the
+ * database or straight from token claims on authenticated requests.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final String role;
+    private final int tokenVersion;
+    private final boolean enabled;
+
+    public AuthenticatedUser(Long id, String email, String password, String role, int tokenVersion, boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.enabled = enabled;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getRole().name(),
+                user.getTokenVersion(),
+                user.getActive());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
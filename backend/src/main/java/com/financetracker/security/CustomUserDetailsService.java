@@ -3,44 +3,38 @@ package com.financetracker.security;
 import com.financetracker.model.User;
 import com.financetracker.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
-
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    @Autowired
+    private UserCache userCache;
+
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * Read from the database, with the password hash, for checking credentials.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedUser::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
 
-        List<GrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                user.getActive(),
-                true,
-                true,
-                true,
-                authorities
-        );
+    /**
+     * Read through {@link UserCache}, without the password hash, for authenticated requests.
+     */
+    public AuthenticatedUser loadPrincipalByEmail(String email) {
+        return AuthenticatedUser.from(userCache.getByEmail(email));
     }
 
     public User loadUserEntityByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        return userCache.getByEmail(email);
     }
 }
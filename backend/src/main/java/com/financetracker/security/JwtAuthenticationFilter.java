@@ -1,10 +1,12 @@
 package com.financetracker.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +26,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    // When on, tokens carrying identity claims authenticate without loading the user
+    @Value("${jwt.claims-only-auth:false}")
+    private boolean claimsOnlyAuth;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
@@ -31,15 +40,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseToken(jwt) : null;
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (claims != null) {
+                UserDetails userDetails = resolvePrincipal(claims);
+
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -48,6 +60,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * @return the principal for a verified token, or null if the token has been revoked
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (claimsOnlyAuth) {
+            Long userId = tokenProvider.getUserId(claims);
+            Integer tokenVersion = tokenProvider.getTokenVersion(claims);
+            if (userId != null && tokenVersion != null) {
+                // The stored role, not the token's claim, so a role change applies to issued tokens too
+                String role = tokenVersionCache.currentRole(userId, tokenVersion);
+                return role != null
+                        ? new AuthenticatedUser(userId, claims.getSubject(), null, role, tokenVersion, true)
+                        : null;
+            }
+        }
+
+        AuthenticatedUser principal = userDetailsService.loadPrincipalByEmail(claims.getSubject());
+        Integer tokenVersion = tokenProvider.getTokenVersion(claims);
+        if (!principal.isEnabled() || (tokenVersion != null && tokenVersion != principal.getTokenVersion())) {
+            return null;
+        }
+        return principal;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,25 +1,80 @@
 package com.financetracker.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.maximum-size}")
+    private long verifiedCacheSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Key signingKey;
+
+    private JwtParser parser;
+
+    // SHA-256 of the compact token -> verified claims, each entry dropped when its token expires
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
     }
 
     public String generateToken(Authentication authentication) {
@@ -27,33 +82,81 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(email)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .setExpiration(expiryDate);
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            builder.claim(CLAIM_USER_ID, principal.getId())
+                    .claim(CLAIM_ROLE, principal.getRole())
+                    .claim(CLAIM_TOKEN_VERSION, principal.getTokenVersion());
+        }
+        return builder
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * @return the token's user id claim, or null if the token was issued without it
+     */
+    public Long getUserId(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return userId != null ? userId.longValue() : null;
+    }
+
+    /**
+     * @return the token's version claim, or null if the token predates versioning
+     */
+    public Integer getTokenVersion(Claims claims) {
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return tokenVersion != null ? tokenVersion.intValue() : null;
+    }
 
+    /**
+     * Verifies the token once and returns its claims, or null if it is invalid or
+     * expired. Recently verified tokens are answered from cache without re-checking
+     * the signature.
+     */
+    public Claims parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String cacheKey = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(cacheKey, claims);
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String getEmailFromToken(String token) {
+        Claims claims = parseToken(token);
+        if (claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
         return claims.getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -0,0 +1,130 @@
+package com.financetracker.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt work on a small dedicated pool so login and registration bursts cannot
+ * occupy every request thread. When the queue is full, work is rejected immediately
+ * with {@link AuthCapacityException}.
+ */
+@Component
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    // Compared against when the email is unknown, so both paths cost one BCrypt check
+    private final String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${auth.hashing.threads}") int threads,
+                                  @Value("${auth.hashing.queue-capacity}") int queueCapacity,
+                                  @Value("${auth.hashing.timeout-ms}") long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.hash.latency")
+                .description("Time spent in BCrypt encode/verify")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.hash.queue.wait")
+                .description("Time hashing work waited for a pool thread")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.hash.rejected")
+                .description("Hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.hash.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-unknown-users");
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Spends the same effort as a real check for a login with an unknown email.
+     */
+    public void matchDummy(String rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    /**
+     * @return true if the hash was produced with a lower cost than currently configured
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new AuthCapacityException("Authentication service is busy, please retry");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new AuthCapacityException("Authentication service is busy, please retry");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthCapacityException("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.financetracker.security;
+
+import com.financetracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Current token version and role per user id, used to authenticate claims-only tokens.
+ * A token is accepted only while its version claim matches; bumping users.token_version
+ * (or deactivating the user) revokes every token issued before. Authorities come from
+ * the stored role rather than the token's claim, so a role change needs no revocation.
+ * The TTL bounds how long another node may keep acting on a superseded entry.
+ */
+@Component
+public class TokenVersionCache {
+
+    private record TokenState(int tokenVersion, String role) {
+    }
+
+    // Stored for deactivated or deleted users; never matches a token's version
+    private static final TokenState REVOKED = new TokenState(-1, null);
+
+    private final Cache<Long, TokenState> cache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public TokenVersionCache(@Value("${cache.token-versions.maximum-size}") long maximumSize,
+                             @Value("${cache.token-versions.ttl-ms}") long ttlMillis,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tokenVersions");
+    }
+
+    /**
+     * @return the user's stored role, or null if the token version is no longer current
+     */
+    public String currentRole(Long userId, int tokenVersion) {
+        TokenState current = cache.get(userId, id -> userRepository.findActiveTokenStateById(id)
+                .map(state -> new TokenState(state.getTokenVersion(), state.getRole().name()))
+                .orElse(REVOKED));
+        return current.tokenVersion() == tokenVersion ? current.role() : null;
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
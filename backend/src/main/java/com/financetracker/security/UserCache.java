@@ -0,0 +1,99 @@
+package com.financetracker.security;
+
+import com.financetracker.model.User;
+import com.financetracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, TTL-evicting cache of User entities keyed by email. Entries are detached
+ * snapshots without associations or the password hash, which is only ever checked
+ * against the database. Hit/miss counts are published as cache.gets{cache=users}.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<String, User> cache;
+
+    // Emails each user is cached under, so a user can be evicted without scanning the cache
+    private final Map<Long, Set<String>> emailsByUserId = new ConcurrentHashMap<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public UserCache(@Value("${cache.users.maximum-size}") long maximumSize,
+                     @Value("${cache.users.ttl-ms}") long ttlMillis,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .evictionListener((String email, User user, RemovalCause cause) -> unindex(user, email))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public User getByEmail(String email) {
+        return cache.get(email, key -> {
+            User user = userRepository.findByEmail(key)
+                    .map(UserCache::snapshot)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + key));
+            emailsByUserId.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+            return user;
+        });
+    }
+
+    public void invalidate(String email) {
+        User removed = cache.asMap().remove(email);
+        if (removed != null) {
+            unindex(removed, email);
+        }
+    }
+
+    // A fresh instance never bound to any persistence context, so it is safe to share
+    // between concurrent requests; associations and the password are left empty.
+    private static User snapshot(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setName(user.getName());
+        copy.setEmail(user.getEmail());
+        copy.setPhone(user.getPhone());
+        copy.setRole(user.getRole());
+        copy.setActive(user.getActive());
+        copy.setTokenVersion(user.getTokenVersion());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Drops every entry for the user, including one cached under a previous email.
+     */
+    public void invalidateUser(Long userId) {
+        Set<String> emails = emailsByUserId.remove(userId);
+        if (emails != null) {
+            cache.invalidateAll(emails);
+        }
+    }
+
+    private void unindex(User user, String email) {
+        if (user != null) {
+            emailsByUserId.computeIfPresent(user.getId(), (id, emails) -> {
+                emails.remove(email);
+                return emails.isEmpty() ? null : emails;
+            });
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.financetracker.security;
+
+import com.financetracker.model.User;
+import com.financetracker.service.TransactionHooks;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached users when the row changes (profile edits, password changes,
+ * deactivation). Evicts again after commit so a concurrent reader cannot
+ * re-cache the pre-commit row.
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    // Lazy: Hibernate instantiates this listener while the EntityManagerFactory that
+    // the caches' repository depends on is still being built
+    @Autowired
+    @Lazy
+    private UserCache userCache;
+
+    @Autowired
+    @Lazy
+    private TokenVersionCache tokenVersionCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Long userId = user.getId();
+        userCache.invalidateUser(userId);
+        tokenVersionCache.invalidate(userId);
+        TransactionHooks.afterCommit(() -> {
+            userCache.invalidateUser(userId);
+            tokenVersionCache.invalidate(userId);
+        });
+    }
+}
@@ -1,13 +1,18 @@
 package com.financetracker.service;
 
+import com.financetracker.dto.NetWorthResponse;
+import com.financetracker.exception.ResourceNotFoundException;
 import com.financetracker.model.Account;
-import com.financetracker.model.User;
 import com.financetracker.repository.AccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 public class AccountService {
@@ -18,51 +23,80 @@ public class AccountService {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Value("${fx.base-currency}")
+    private String baseCurrency;
+
+    @Transactional(readOnly = true)
     public List<Account> getAllAccountsForCurrentUser() {
-        User currentUser = authService.getCurrentUser();
-        return accountRepository.findByUserId(currentUser.getId());
+        Long currentUserId = authService.getCurrentUserId();
+        return accountRepository.findByUserId(currentUserId);
     }
 
+    @Transactional(readOnly = true)
     public Account getAccountById(Long id) {
-        User currentUser = authService.getCurrentUser();
-        Account account = accountRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-        
-        if (!account.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Account account = accountRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
         
         return account;
     }
 
+    @Transactional
     public Account createAccount(Account account) {
-        User currentUser = authService.getCurrentUser();
-        account.setUser(currentUser);
+        account.setUser(authService.getCurrentUserReference());
         if (account.getBalance() == null) {
             account.setBalance(BigDecimal.ZERO);
         }
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        dataVersionService.bump(authService.getCurrentUserId());
+        return saved;
     }
 
+    @Transactional
     public Account updateAccount(Long id, Account accountDetails) {
         Account account = getAccountById(id);
         account.setName(accountDetails.getName());
         account.setType(accountDetails.getType());
         account.setBalance(accountDetails.getBalance());
         account.setCurrency(accountDetails.getCurrency());
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        dataVersionService.bump(authService.getCurrentUserId());
+        return saved;
     }
 
+    @Transactional
     public void deleteAccount(Long id) {
         Account account = getAccountById(id);
+        // Its transactions go first, out of the budgets and the rollup with them
+        transactionService.deleteAccountTransactions(account.getUser().getId(), account.getId());
         accountRepository.delete(account);
+        transactionSearchService.invalidateUserAfterCommit(account.getUser().getId());
+        dataVersionService.bump(account.getUser().getId());
     }
 
-    public BigDecimal getTotalBalance() {
-        User currentUser = authService.getCurrentUser();
-        List<Account> accounts = accountRepository.findByUserId(currentUser.getId());
-        return accounts.stream()
-                .map(Account::getBalance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Balances summed per currency in the database and converted to the requested
+     * currency, or the configured base currency when none is given.
+     */
+    @Transactional(readOnly = true)
+    public NetWorthResponse getNetWorth(String currency) {
+        Long currentUserId = authService.getCurrentUserId();
+        Map<String, BigDecimal> totals = new TreeMap<>();
+        for (AccountRepository.CurrencyTotalView row : accountRepository.sumBalanceByCurrency(currentUserId)) {
+            totals.merge(FxRateService.normalize(row.getCurrency()), row.getTotal(), BigDecimal::add);
+        }
+        return fxRateService.toNetWorth(currency != null ? currency : baseCurrency, totals);
     }
 }
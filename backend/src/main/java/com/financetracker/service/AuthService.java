@@ -3,75 +3,91 @@ package com.financetracker.service;
 import com.financetracker.dto.AuthResponse;
 import com.financetracker.dto.LoginRequest;
 import com.financetracker.dto.RegisterRequest;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.exception.ResourceNotFoundException;
 import com.financetracker.model.User;
 import com.financetracker.repository.UserRepository;
+import com.financetracker.security.AuthenticatedUser;
 import com.financetracker.security.JwtTokenProvider;
+import com.financetracker.security.PasswordHashingService;
+import com.financetracker.security.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 public class AuthService {
 
+    private static final String CURRENT_USER_ATTRIBUTE = AuthService.class.getName() + ".currentUser";
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private UserCache userCache;
 
     public AuthResponse register(RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already in use!");
+            throw new BadRequestException("Email already in use!");
         }
 
-        // Create new user
+        // Create new user; the only BCrypt operation on this path
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setPhone(request.getPhone());
         user.setRole(User.Role.USER);
         user.setActive(true);
 
         User savedUser = userRepository.save(user);
 
-        // Authenticate and generate token
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String token = tokenProvider.generateToken(authentication);
-
-        return new AuthResponse(
-            token,
-            savedUser.getId(),
-            savedUser.getName(),
-            savedUser.getEmail(),
-            savedUser.getRole().name()
-        );
+        // The password was just set, so issue the token without verifying it again
+        return issueToken(AuthenticatedUser.from(savedUser), savedUser);
     }
 
     public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        // From the database, not UserCache: a cached copy could hold a password changed on another instance
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            passwordHashingService.matchDummy(request.getPassword());
+            throw new BadCredentialsException("Invalid email or password");
+        }
+
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        if (!user.getActive()) {
+            throw new DisabledException("User is disabled");
+        }
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehashPassword(user.getId(), request.getPassword());
+        }
+
+        return issueToken(AuthenticatedUser.from(user), user);
+    }
+
+    private AuthResponse issueToken(AuthenticatedUser principal, User user) {
+        Authentication authentication =
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String token = tokenProvider.generateToken(authentication);
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         return new AuthResponse(
             token,
             user.getId(),
@@ -81,10 +97,73 @@ public class AuthService {
         );
     }
 
+    /**
+     * Re-encodes a verified password at the configured cost.
+     */
+    private void rehashPassword(Long userId, String rawPassword) {
+        String upgraded = passwordHashingService.encode(rawPassword);
+        userRepository.findById(userId).ifPresent(stored -> {
+            stored.setPassword(upgraded);
+            userRepository.save(stored);
+        });
+    }
+
+    /**
+     * Resolves the authenticated user at most once per request: a request-scoped memo
+     * in front of the shared {@link UserCache}. The result is a detached snapshot.
+     */
     public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object memo = request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (memo instanceof User user && email.equals(user.getEmail())) {
+                return user;
+            }
+        }
+
+        User user;
+        try {
+            user = userCache.getByEmail(email);
+        } catch (UsernameNotFoundException e) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    /**
+     * Id of the authenticated user, read from the principal without touching the
+     * users table.
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        return getCurrentUser().getId();
+    }
+
+    /**
+     * Uninitialized reference to the authenticated user, for setting owner
+     * associations on new entities without a SELECT.
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+
+    /**
+     * Invalidates every token issued to the current user so far.
+     */
+    @Transactional
+    public void revokeAllTokens() {
+        User user = userRepository.findById(getCurrentUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
     }
 }
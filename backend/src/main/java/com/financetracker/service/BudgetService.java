@@ -2,11 +2,18 @@ package com.financetracker.service;
 
 import com.financetracker.dto.BudgetRequest;
 import com.financetracker.dto.BudgetResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.exception.ResourceNotFoundException;
 import com.financetracker.model.Budget;
-import com.financetracker.model.User;
+import com.financetracker.model.Category;
+import com.financetracker.model.CategoryMonthlyTotal;
+import com.financetracker.model.Transaction;
 import com.financetracker.repository.BudgetRepository;
+import com.financetracker.repository.CategoryMonthlyTotalRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,127 +26,155 @@ public class BudgetService {
     @Autowired
     private BudgetRepository budgetRepository;
 
+    @Autowired
+    private CategoryMonthlyTotalRepository categoryMonthlyTotalRepository;
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<BudgetResponse> getAllBudgetsForCurrentUser() {
-        User currentUser = authService.getCurrentUser();
-        List<Budget> budgets = budgetRepository.findByUserId(currentUser.getId());
+        Long currentUserId = authService.getCurrentUserId();
+        List<Budget> budgets = budgetRepository.findByUserId(currentUserId);
         return budgets.stream()
                 .map(BudgetResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<BudgetResponse> getBudgetsByMonthAndYear(Integer month, Integer year) {
-        User currentUser = authService.getCurrentUser();
-        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(currentUser.getId(), month, year);
+        Long currentUserId = authService.getCurrentUserId();
+        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(currentUserId, month, year);
         return budgets.stream()
                 .map(BudgetResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<BudgetResponse> getCurrentMonthBudgets() {
         LocalDate now = LocalDate.now();
         return getBudgetsByMonthAndYear(now.getMonthValue(), now.getYear());
     }
 
+    @Transactional(readOnly = true)
     public BudgetResponse getBudgetById(Long id) {
-        User currentUser = authService.getCurrentUser();
-        Budget budget = budgetRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Budget not found"));
-        
-        if (!budget.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Budget budget = budgetRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
         
         return new BudgetResponse(budget);
     }
 
+    @Transactional
     public BudgetResponse createBudget(BudgetRequest request) {
-        User currentUser = authService.getCurrentUser();
+        Long currentUserId = authService.getCurrentUserId();
         
         // Parse month string (YYYY-MM) to get year and month
         String[] parts = request.getMonth().split("-");
         if (parts.length != 2) {
-            throw new RuntimeException("Invalid month format. Expected YYYY-MM");
+            throw new BadRequestException("Invalid month format. Expected YYYY-MM");
         }
         
         int year = Integer.parseInt(parts[0]);
         int month = Integer.parseInt(parts[1]);
+        String category = categoryDictionary.resolve(request.getCategory(), Category.CategoryType.EXPENSE);
         
         // Check if budget already exists for this category/month/year
         budgetRepository.findByUserIdAndCategoryAndMonthAndYear(
-            currentUser.getId(), 
-            request.getCategory(), 
+            currentUserId, 
+            category, 
             month, 
             year
         ).ifPresent(existingBudget -> {
-            throw new RuntimeException("Budget already exists for this category in the specified month");
+            throw new BadRequestException("Budget already exists for this category in the specified month");
         });
         
         // Create budget entity
         Budget budget = new Budget();
-        budget.setCategory(request.getCategory());
+        budget.setCategory(category);
         budget.setLimit(request.getAmount());
-        budget.setSpent(BigDecimal.ZERO);
+        budget.setSpent(getSpentSoFar(currentUserId, category, month, year));
         budget.setMonth(month);
         budget.setYear(year);
-        budget.setUser(currentUser);
+        budget.setUser(authService.getCurrentUserReference());
         
         Budget savedBudget = budgetRepository.save(budget);
+        dataVersionService.bump(currentUserId);
         return new BudgetResponse(savedBudget);
     }
 
+    @Transactional
     public BudgetResponse updateBudget(Long id, BudgetRequest request) {
-        User currentUser = authService.getCurrentUser();
-        Budget budget = budgetRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Budget not found"));
-        
-        if (!budget.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Budget budget = budgetRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
         
         // Parse month string (YYYY-MM) to get year and month
         String[] parts = request.getMonth().split("-");
         if (parts.length != 2) {
-            throw new RuntimeException("Invalid month format. Expected YYYY-MM");
+            throw new BadRequestException("Invalid month format. Expected YYYY-MM");
         }
         
         int year = Integer.parseInt(parts[0]);
         int month = Integer.parseInt(parts[1]);
+        String category = categoryDictionary.resolve(request.getCategory(), Category.CategoryType.EXPENSE);
         
+        // Moving the budget to another category or month starts from that period's spend
+        if (!budget.getCategory().equals(category)
+                || budget.getMonth() != month || budget.getYear() != year) {
+            budget.setSpent(getSpentSoFar(currentUserId, category, month, year));
+        }
+
         // Update budget
-        budget.setCategory(request.getCategory());
+        budget.setCategory(category);
         budget.setLimit(request.getAmount());
         budget.setMonth(month);
         budget.setYear(year);
         
         Budget updatedBudget = budgetRepository.save(budget);
+        dataVersionService.bump(currentUserId);
         return new BudgetResponse(updatedBudget);
     }
 
+    @Transactional
     public void deleteBudget(Long id) {
-        User currentUser = authService.getCurrentUser();
-        Budget budget = budgetRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Budget not found"));
-        
-        if (!budget.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Budget budget = budgetRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
         
         budgetRepository.delete(budget);
+        dataVersionService.bump(currentUserId);
     }
 
+    @Transactional
     public Budget updateSpentAmount(Long id, BigDecimal amount) {
-        User currentUser = authService.getCurrentUser();
-        Budget budget = budgetRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Budget not found"));
-        
-        if (!budget.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
-        
-        budget.setSpent(budget.getSpent().add(amount));
-        return budgetRepository.save(budget);
+        Long currentUserId = authService.getCurrentUserId();
+        Budget budget = budgetRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+        
+        budgetRepository.addToSpentById(id, amount);
+        entityManager.refresh(budget);
+        dataVersionService.bump(currentUserId);
+        return budget;
+    }
+
+    /**
+     * Expenses already recorded for the category and month, read from the monthly rollup.
+     */
+    private BigDecimal getSpentSoFar(Long userId, String category, int month, int year) {
+        return categoryMonthlyTotalRepository.findByUserIdAndTypeAndCategoryAndYearAndMonth(
+                userId, Transaction.TransactionType.EXPENSE, category, year, month)
+                .map(CategoryMonthlyTotal::getTotal)
+                .filter(total -> total.signum() > 0)
+                .orElse(BigDecimal.ZERO);
     }
-}
\ No newline at end of file
+}
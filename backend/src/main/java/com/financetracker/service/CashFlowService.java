@@ -0,0 +1,266 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.CashFlowResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.model.Transaction;
+import com.financetracker.repository.CategoryMonthlyTotalRepository;
+import com.financetracker.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cash-flow series bucketed by day, week or month. Totals of periods that ended before
+ * today are cached per user, each with the revision of the monthly rollup rows it covers.
+ * Every transaction write goes through the rollup row of its month, so a write leaves
+ * cached periods in other months valid on every instance, and a request normally
+ * recomputes only the current period and any month written since.
+ */
+@Service
+public class CashFlowService {
+
+    private static final int MAX_POINTS = 5000;
+
+    public enum Interval {
+        DAY, WEEK, MONTH;
+
+        public LocalDate periodStart(LocalDate date) {
+            switch (this) {
+                case DAY:
+                    return date;
+                case WEEK:
+                    return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                default:
+                    return date.withDayOfMonth(1);
+            }
+        }
+
+        public LocalDate nextPeriodStart(LocalDate periodStart) {
+            switch (this) {
+                case DAY:
+                    return periodStart.plusDays(1);
+                case WEEK:
+                    return periodStart.plusWeeks(1);
+                default:
+                    return periodStart.plusMonths(1);
+            }
+        }
+
+        public static Interval fromParameter(String value) {
+            try {
+                return Interval.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported interval: " + value);
+            }
+        }
+    }
+
+    private record PeriodKey(Long userId, Interval interval, LocalDate start) {
+    }
+
+    // Totals as of the given revision of the period's months
+    private record CachedPeriod(long revision, PeriodTotals totals) {
+    }
+
+    // The rollup of one month: income minus expenses, and the sum of its rows' revisions
+    private record MonthRollup(BigDecimal net, long revision) {
+
+        static final MonthRollup EMPTY = new MonthRollup(BigDecimal.ZERO, 0);
+
+        MonthRollup plus(Transaction.TransactionType type, BigDecimal total, long rowRevision) {
+            BigDecimal signed = type == Transaction.TransactionType.EXPENSE ? total.negate() : total;
+            return new MonthRollup(net.add(signed), revision + rowRevision);
+        }
+    }
+
+    private record PeriodTotals(BigDecimal income, BigDecimal expenses, long count) {
+
+        static final PeriodTotals EMPTY = new PeriodTotals(BigDecimal.ZERO, BigDecimal.ZERO, 0);
+
+        PeriodTotals plus(Transaction.TransactionType type, BigDecimal total, long rows) {
+            if (type == Transaction.TransactionType.INCOME) {
+                return new PeriodTotals(income.add(total), expenses, count + rows);
+            }
+            if (type == Transaction.TransactionType.EXPENSE) {
+                return new PeriodTotals(income, expenses.add(total), count + rows);
+            }
+            return this;
+        }
+
+        PeriodTotals combine(PeriodTotals other) {
+            return new PeriodTotals(income.add(other.income), expenses.add(other.expenses), count + other.count);
+        }
+    }
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CategoryMonthlyTotalRepository categoryMonthlyTotalRepository;
+
+    private final Cache<PeriodKey, CachedPeriod> closedPeriods;
+
+    public CashFlowService(@Value("${cache.cash-flow.maximum-size}") long maximumSize,
+                           @Value("${cache.cash-flow.ttl-ms}") long ttlMillis,
+                           MeterRegistry meterRegistry) {
+        this.closedPeriods = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, closedPeriods, "cash-flow");
+    }
+
+    /**
+     * @param startDate first day of interest, widened to the start of its period; defaults to one year before endDate
+     * @param endDate last day of interest, widened to the end of its period; defaults to today
+     */
+    @Transactional(readOnly = true)
+    public CashFlowResponse getCashFlow(LocalDate startDate, LocalDate endDate, String interval) {
+        Long currentUserId = authService.getCurrentUserId();
+        Interval step = Interval.fromParameter(interval != null ? interval : "month");
+        LocalDate today = LocalDate.now();
+        LocalDate to = endDate != null ? endDate : today;
+        LocalDate from = startDate != null ? startDate : to.minusYears(1).plusDays(1);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+        LocalDate first = step.periodStart(from);
+        LocalDate end = step.nextPeriodStart(step.periodStart(to));
+        // Read before the totals, in the same transaction (and so the same database), so
+        // cached totals are never older than the revision they are filed under
+        Map<YearMonth, MonthRollup> months = monthRollups(currentUserId, YearMonth.from(end.minusDays(1)));
+
+        // Cached closed periods are used as is; the span from the first to the last miss is read in one pass
+        List<LocalDate> periods = new ArrayList<>();
+        Map<LocalDate, PeriodTotals> totals = new HashMap<>();
+        Map<LocalDate, Long> revisions = new HashMap<>();
+        LocalDate firstMiss = null;
+        LocalDate lastMiss = null;
+        for (LocalDate period = first; period.isBefore(end); period = step.nextPeriodStart(period)) {
+            if (periods.size() == MAX_POINTS) {
+                throw new BadRequestException("Range has more than " + MAX_POINTS + " periods; use a longer interval");
+            }
+            periods.add(period);
+            CachedPeriod cached = null;
+            if (isClosed(step, period, today)) {
+                long revision = revision(months, step, period);
+                revisions.put(period, revision);
+                cached = closedPeriods.getIfPresent(new PeriodKey(currentUserId, step, period));
+                if (cached != null && cached.revision() != revision) {
+                    cached = null;
+                }
+            }
+            if (cached != null) {
+                totals.put(period, cached.totals());
+            } else {
+                if (firstMiss == null) {
+                    firstMiss = period;
+                }
+                lastMiss = period;
+            }
+        }
+
+        if (firstMiss != null) {
+            LocalDate missEnd = step.nextPeriodStart(lastMiss);
+            Map<LocalDate, PeriodTotals> computed = computePeriods(currentUserId, step, firstMiss, missEnd.minusDays(1));
+            for (LocalDate period = firstMiss; period.isBefore(missEnd); period = step.nextPeriodStart(period)) {
+                PeriodTotals periodTotals = computed.getOrDefault(period, PeriodTotals.EMPTY);
+                totals.put(period, periodTotals);
+                if (revisions.containsKey(period)) {
+                    closedPeriods.put(new PeriodKey(currentUserId, step, period),
+                        new CachedPeriod(revisions.get(period), periodTotals));
+                }
+            }
+        }
+
+        CashFlowResponse response = new CashFlowResponse();
+        response.setInterval(step.name());
+        response.setStartDate(first);
+        response.setEndDate(end.minusDays(1));
+        response.setOpeningBalance(netBefore(currentUserId, months, first));
+
+        BigDecimal running = response.getOpeningBalance();
+        for (LocalDate period : periods) {
+            PeriodTotals periodTotals = totals.get(period);
+            BigDecimal net = periodTotals.income().subtract(periodTotals.expenses());
+            running = running.add(net);
+            response.getPoints().add(new CashFlowResponse.Point(period, step.nextPeriodStart(period).minusDays(1),
+                periodTotals.income(), periodTotals.expenses(), net, running, periodTotals.count()));
+        }
+        return response;
+    }
+
+    // One query for per-day totals, folded into their periods
+    private Map<LocalDate, PeriodTotals> computePeriods(Long userId, Interval step, LocalDate from, LocalDate to) {
+        Map<LocalDate, PeriodTotals> computed = new HashMap<>();
+        for (TransactionRepository.DailyTotalView row : transactionRepository.sumByDay(userId, from, to)) {
+            computed.merge(step.periodStart(row.getTransactionDate()),
+                PeriodTotals.EMPTY.plus(row.getType(), row.getTotal(), row.getCount()),
+                PeriodTotals::combine);
+        }
+        return computed;
+    }
+
+    private Map<YearMonth, MonthRollup> monthRollups(Long userId, YearMonth through) {
+        Map<YearMonth, MonthRollup> months = new HashMap<>();
+        for (CategoryMonthlyTotalRepository.MonthTotalView row :
+                 categoryMonthlyTotalRepository.sumByMonthThrough(userId, through.getYear(), through.getMonthValue())) {
+            months.merge(YearMonth.of(row.getYear(), row.getMonth()),
+                MonthRollup.EMPTY.plus(row.getType(), row.getTotal(), row.getRevision()),
+                (a, b) -> new MonthRollup(a.net().add(b.net()), a.revision() + b.revision()));
+        }
+        return months;
+    }
+
+    // Revisions only grow, so the sum changes whenever any month the period touches does
+    private static long revision(Map<YearMonth, MonthRollup> months, Interval step, LocalDate periodStart) {
+        long revision = 0;
+        YearMonth last = YearMonth.from(step.nextPeriodStart(periodStart).minusDays(1));
+        for (YearMonth month = YearMonth.from(periodStart); !month.isAfter(last); month = month.plusMonths(1)) {
+            revision += months.getOrDefault(month, MonthRollup.EMPTY).revision();
+        }
+        return revision;
+    }
+
+    // Whole months come from the rollup; only the days of the date's own month before it are read
+    private BigDecimal netBefore(Long userId, Map<YearMonth, MonthRollup> months, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        BigDecimal net = BigDecimal.ZERO;
+        for (Map.Entry<YearMonth, MonthRollup> entry : months.entrySet()) {
+            if (entry.getKey().isBefore(month)) {
+                net = net.add(entry.getValue().net());
+            }
+        }
+        if (date.getDayOfMonth() > 1) {
+            PeriodTotals days = computePeriods(userId, Interval.MONTH, month.atDay(1), date.minusDays(1))
+                .getOrDefault(month.atDay(1), PeriodTotals.EMPTY);
+            net = net.add(days.income()).subtract(days.expenses());
+        }
+        return net;
+    }
+
+    private static boolean isClosed(Interval step, LocalDate periodStart, LocalDate today) {
+        return !step.nextPeriodStart(periodStart).isAfter(today);
+    }
+}
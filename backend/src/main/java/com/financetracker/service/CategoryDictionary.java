@@ -0,0 +1,263 @@
+package com.financetracker.service;
+
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bidirectional category name/id dictionary, preloaded and held in memory as immutable
+ * maps that are swapped on reload. Transactions and budgets store only the category id;
+ * the name is translated here, so reads never join the categories table.
+ *
+ * <p>Names are matched case-insensitively, like the unique key on categories.name. The
+ * maps are reloaded when an unknown id is seen and once they are older than
+ * category.refresh-ms, which picks up categories created by other instances. Categories
+ * are created in the writing transaction, so a rollback leaves none behind.
+ */
+@Service
+public class CategoryDictionary {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${category.refresh-ms}")
+    private long refreshMillis;
+
+    private volatile Map<String, Category> byName = Map.of();
+    private volatile Map<Long, String> byId = Map.of();
+    private volatile long loadedAt;
+
+    /**
+     * Reads categories in a transaction of its own, since this can be reached from the
+     * converter while the caller's session is loading rows. It is not marked read-only so
+     * it reads the primary, which has categories created a moment ago.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        List<Category> categories = newTransaction().execute(status -> categoryRepository.findAll());
+
+        Map<String, Category> names = new HashMap<>();
+        Map<Long, String> ids = new HashMap<>();
+        for (Category category : categories) {
+            names.put(key(category.getName()), category);
+            ids.put(category.getId(), category.getName());
+        }
+        byName = Map.copyOf(names);
+        byId = Map.copyOf(ids);
+        loadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Id of a known category, or null when no category has this name.
+     */
+    public Long findId(String name) {
+        if (name == null) {
+            return null;
+        }
+        Category category = lookup(name);
+        return category != null ? category.getId() : null;
+    }
+
+    public String nameFor(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String name = byId.get(id);
+        if (name == null && TransactionSynchronizationManager.hasResource(this)) {
+            name = createdInTransaction().values().stream()
+                    .filter(category -> category.getId().equals(id))
+                    .map(Category::getName)
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (name == null) {
+            reload();
+            name = byId.get(id);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the stored spelling of {@code name}, creating the category with
+     * {@code typeIfNew} first when it does not exist yet.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String resolve(String name, Category.CategoryType typeIfNew) {
+        if (name == null || name.isBlank()) {
+            throw new BadRequestException("Category is required");
+        }
+        return resolveAll(Map.of(name, typeIfNew)).get(name);
+    }
+
+    /**
+     * Stored spelling of every name in {@code typesByName}, keyed by the given name. Names
+     * not known yet are created with their mapped type by one INSERT IGNORE in the
+     * caller's transaction and read back with one query. Until that transaction commits
+     * the new ids are visible to it alone; after the commit they join the shared maps.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, String> resolveAll(Map<String, Category.CategoryType> typesByName) {
+        Map<String, String> resolved = new HashMap<>();
+        // Sorted by name so concurrent writers take the unique-key locks in the same order
+        Map<String, Category> missing = new TreeMap<>();
+        for (Map.Entry<String, Category.CategoryType> entry : typesByName.entrySet()) {
+            String name = entry.getKey();
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            Category known = lookup(name);
+            if (known != null) {
+                resolved.put(name, known.getName());
+            } else if (!missing.containsKey(key(name))) {
+                Category category = new Category();
+                category.setName(name.trim());
+                category.setType(entry.getValue());
+                missing.put(key(name), category);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        insertIgnore(missing.values());
+        Map<String, Category> created = createdInTransaction();
+        List<String> names = missing.values().stream().map(Category::getName).toList();
+        for (Category category : categoryRepository.findByNameInForShare(names)) {
+            created.put(key(category.getName()), category);
+        }
+        for (String name : typesByName.keySet()) {
+            if (name == null || name.isBlank() || resolved.containsKey(name)) {
+                continue;
+            }
+            Category category = created.get(key(name));
+            if (category == null) {
+                throw new IllegalStateException("Could not create category " + name.trim());
+            }
+            resolved.put(name, category.getName());
+        }
+        return resolved;
+    }
+
+    /**
+     * Category type for a name first seen on a transaction of this type.
+     */
+    public static Category.CategoryType typeOf(Transaction.TransactionType type) {
+        return type == Transaction.TransactionType.INCOME
+                ? Category.CategoryType.INCOME
+                : Category.CategoryType.EXPENSE;
+    }
+
+    /**
+     * One multi-row INSERT IGNORE; a name created concurrently is skipped and read back.
+     * The query space limits the second-level cache invalidation to categories.
+     */
+    private void insertIgnore(Collection<Category> categories) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO categories (name, type) VALUES ");
+        for (int i = 0; i < categories.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+        }
+        Query insert = entityManager.createNativeQuery(sql.toString())
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "categories");
+        int position = 1;
+        for (Category category : categories) {
+            insert.setParameter(position++, category.getName());
+            insert.setParameter(position++, category.getType().name());
+        }
+        insert.executeUpdate();
+    }
+
+    /**
+     * Categories created by the current transaction, keyed like {@link #byName}. The
+     * converter reads them while the transaction flushes rows that use them; they are
+     * published to the shared maps on commit and dropped on rollback.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Category> createdInTransaction() {
+        Map<String, Category> created = (Map<String, Category>) TransactionSynchronizationManager.getResource(this);
+        if (created == null) {
+            Map<String, Category> categories = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, categories);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(categories.values());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CategoryDictionary.this);
+                }
+            });
+            created = categories;
+        }
+        return created;
+    }
+
+    private synchronized void publish(Collection<Category> categories) {
+        Map<String, Category> names = new HashMap<>(byName);
+        Map<Long, String> ids = new HashMap<>(byId);
+        for (Category category : categories) {
+            names.put(key(category.getName()), category);
+            ids.put(category.getId(), category.getName());
+        }
+        byName = Map.copyOf(names);
+        byId = Map.copyOf(ids);
+    }
+
+    private Category lookup(String name) {
+        Category category = currentNames().get(key(name));
+        if (category == null && TransactionSynchronizationManager.hasResource(this)) {
+            category = createdInTransaction().get(key(name));
+        }
+        return category;
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private Map<String, Category> currentNames() {
+        if (System.currentTimeMillis() - loadedAt > refreshMillis) {
+            synchronized (this) {
+                if (System.currentTimeMillis() - loadedAt > refreshMillis) {
+                    reload();
+                }
+            }
+        }
+        return byName;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,190 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.BudgetResponse;
+import com.financetracker.dto.DashboardResponse;
+import com.financetracker.dto.NetWorthResponse;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.model.Account;
+import com.financetracker.repository.AccountRepository;
+import com.financetracker.repository.BudgetRepository;
+import com.financetracker.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the dashboard summary. The user is resolved once on the request thread and the
+ * sections are queried concurrently on a small bounded pool; whatever has not finished
+ * when the time budget runs out is reported as unavailable instead of failing the page.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Value("${fx.base-currency}")
+    private String baseCurrency;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int recentTransactions;
+    private final MeterRegistry meterRegistry;
+
+    public DashboardService(@Value("${dashboard.threads}") int threads,
+                            @Value("${dashboard.queue-capacity}") int queueCapacity,
+                            @Value("${dashboard.timeout-ms}") long timeoutMillis,
+                            @Value("${dashboard.recent-transactions}") int recentTransactions,
+                            MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.recentTransactions = recentTransactions;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public DashboardResponse getDashboardForCurrentUser() {
+        Long currentUserId = authService.getCurrentUserId();
+        LocalDate today = LocalDate.now();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        Future<List<Account>> accounts = submit(status -> accountRepository.findByUserId(currentUserId));
+        Future<List<TransactionResponse>> recent = submit(status -> transactionRepository.findPageByUserId(
+                    currentUserId, TransactionCursor.START.getTransactionDate(), TransactionCursor.START.getId(),
+                    PageRequest.of(0, recentTransactions)).stream()
+                .map(TransactionResponse::new)
+                .collect(Collectors.toList()));
+        Future<List<BudgetResponse>> budgets = submit(status -> budgetRepository.findByUserIdAndMonthAndYear(
+                    currentUserId, today.getMonthValue(), today.getYear()).stream()
+                .map(BudgetResponse::new)
+                .collect(Collectors.toList()));
+
+        DashboardResponse response = new DashboardResponse();
+        List<Account> accountList = await("accounts", accounts, deadline, response);
+        if (accountList != null) {
+            Map<String, BigDecimal> totals = new TreeMap<>();
+            for (Account account : accountList) {
+                totals.merge(FxRateService.normalize(account.getCurrency()), account.getBalance(), BigDecimal::add);
+            }
+            response.setAccounts(accountList);
+            try {
+                NetWorthResponse netWorth = fxRateService.toNetWorth(baseCurrency, totals);
+                response.setTotalBalance(netWorth.getTotalBalance());
+                response.setBaseCurrency(netWorth.getBaseCurrency());
+                response.setMissingRates(netWorth.getMissingRates());
+            } catch (RuntimeException e) {
+                // No rate for the base currency itself; the accounts are still shown
+                log.warn("Dashboard total balance failed", e);
+                markUnavailable("totalBalance", "error", response);
+            }
+        }
+        response.setRecentTransactions(await("recentTransactions", recent, deadline, response));
+        response.setCurrentMonthBudgets(await("currentMonthBudgets", budgets, deadline, response));
+        return response;
+    }
+
+    private <T> Future<T> submit(TransactionCallback<T> section) {
+        // Each section is its own read-only transaction, so it can be served by a replica.
+        // The caller's authentication is carried along for replica routing's read-your-writes.
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Callable<T> task = () -> readOnly.execute(section);
+        try {
+            return executor.submit(new DelegatingSecurityContextCallable<>(task));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits for a section until the shared deadline; on any failure records the section
+     * as unavailable and returns null.
+     */
+    private <T> T await(String section, Future<T> future, long deadline, DashboardResponse response) {
+        String outcome;
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcome = "timeout";
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (ExecutionException e) {
+            outcome = e.getCause() instanceof RejectedExecutionException ? "rejected" : "error";
+            if (!"rejected".equals(outcome)) {
+                log.warn("Dashboard section {} failed", section, e.getCause());
+            }
+        }
+        markUnavailable(section, outcome, response);
+        return null;
+    }
+
+    private void markUnavailable(String section, String outcome, DashboardResponse response) {
+        response.getUnavailableSections().add(section);
+        Counter.builder("dashboard.section.unavailable")
+                .description("Dashboard sections left out of the response")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
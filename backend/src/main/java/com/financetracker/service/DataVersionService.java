@@ -0,0 +1,40 @@
+package com.financetracker.service;
+
+import com.financetracker.repository.UserDataVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-user data version. Every write to a user's accounts, transactions or budgets bumps
+ * it in the same database transaction, so an unchanged version means unchanged data and
+ * reads can be answered from the client's copy.
+ */
+@Service
+public class DataVersionService {
+
+    @Autowired
+    private UserDataVersionRepository userDataVersionRepository;
+
+    /**
+     * Called last in a write so the row lock on the counter is held only until commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Long userId) {
+        userDataVersionRepository.increment(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public long currentVersion(Long userId) {
+        return userDataVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+
+    /**
+     * Strong ETag for the user's data at {@code version}. It names the user so a browser
+     * shared between accounts never revalidates one user's copy for another.
+     */
+    public static String etag(Long userId, long version) {
+        return "\"" + userId + "-" + version + "\"";
+    }
+}
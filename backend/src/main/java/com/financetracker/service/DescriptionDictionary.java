@@ -0,0 +1,151 @@
+package com.financetracker.service;
+
+import com.financetracker.model.TransactionDescription;
+import com.financetracker.repository.TransactionDescriptionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deduplicates transaction descriptions: each distinct text is stored once in
+ * transaction_descriptions and transactions reference it by id. Hot entries are kept in
+ * a bounded LRU keyed by the text's SHA-256, so writes of recurring merchant text do not
+ * touch the dictionary table.
+ *
+ * <p>Unknown texts are written in the caller's transaction, one statement per call, so a
+ * rolled-back write leaves no entries behind and needs no second connection. Entries are
+ * added to the LRU only once that transaction has committed.
+ */
+@Service
+public class DescriptionDictionary {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Autowired
+    private TransactionDescriptionRepository transactionDescriptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Cache<String, TransactionDescription> entries;
+
+    public DescriptionDictionary(@Value("${cache.descriptions.maximum-size}") long maximumSize,
+                                 MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "transaction-descriptions");
+    }
+
+    /**
+     * Dictionary entry for {@code text}, created if needed; null for a blank description.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TransactionDescription entryFor(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return entriesFor(List.of(text)).get(text);
+    }
+
+    /**
+     * Dictionary entries for {@code texts}, keyed by text and created where needed. Blank
+     * texts have no entry. Texts missing from the LRU are looked up with one query, and
+     * those not stored yet are inserted with one more.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, TransactionDescription> entriesFor(Collection<String> texts) {
+        Map<String, TransactionDescription> resolved = new HashMap<>();
+        // Sorted by hash so concurrent writers take the unique-key locks in the same order
+        Map<String, String> missing = new TreeMap<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank() || resolved.containsKey(text)) {
+                continue;
+            }
+            String key = HEX.formatHex(hash(text));
+            TransactionDescription cached = entries.getIfPresent(key);
+            if (cached != null) {
+                resolved.put(text, cached);
+            } else {
+                missing.put(key, text);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, TransactionDescription> loaded = new HashMap<>();
+        for (TransactionDescription entry : transactionDescriptionRepository.findByHashIn(hashes(missing.keySet()))) {
+            loaded.put(HEX.formatHex(entry.getHash()), entry);
+        }
+        Map<String, String> absent = new TreeMap<>(missing);
+        absent.keySet().removeAll(loaded.keySet());
+        if (!absent.isEmpty()) {
+            insertIgnore(absent);
+            for (TransactionDescription entry : transactionDescriptionRepository.findByHashInForShare(hashes(absent.keySet()))) {
+                loaded.put(HEX.formatHex(entry.getHash()), entry);
+            }
+        }
+
+        for (Map.Entry<String, String> entry : missing.entrySet()) {
+            TransactionDescription description = loaded.get(entry.getKey());
+            if (description == null) {
+                throw new IllegalStateException("Description was not stored");
+            }
+            resolved.put(entry.getValue(), description);
+        }
+        TransactionHooks.afterCommit(() -> entries.putAll(loaded));
+        return resolved;
+    }
+
+    /**
+     * One multi-row INSERT IGNORE; a text inserted concurrently is skipped and read back by
+     * hash. The query space keeps Hibernate from evicting the whole second-level cache.
+     */
+    private void insertIgnore(Map<String, String> textsByHash) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO transaction_descriptions (hash, description) VALUES ");
+        for (int i = 0; i < textsByHash.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+        }
+        Query insert = entityManager.createNativeQuery(sql.toString())
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "transaction_descriptions");
+        int position = 1;
+        for (Map.Entry<String, String> entry : textsByHash.entrySet()) {
+            insert.setParameter(position++, HEX.parseHex(entry.getKey()));
+            insert.setParameter(position++, entry.getValue());
+        }
+        insert.executeUpdate();
+    }
+
+    private static List<byte[]> hashes(Collection<String> keys) {
+        return keys.stream().map(HEX::parseHex).toList();
+    }
+
+    static byte[] hash(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.NetWorthResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.model.FxRate;
+import com.financetracker.repository.FxRateRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Exchange rates held in memory as an immutable map that is swapped on reload. Reads
+ * never touch the database; the map is reloaded after a rate is changed here and, to
+ * pick up changes made by other instances, once it is older than fx.refresh-ms.
+ */
+@Service
+public class FxRateService {
+
+    @Autowired
+    private FxRateRepository fxRateRepository;
+
+    @Value("${fx.reference-currency}")
+    private String referenceCurrency;
+
+    @Value("${fx.refresh-ms}")
+    private long refreshMillis;
+
+    private volatile Map<String, BigDecimal> rates = Map.of();
+    private volatile long loadedAt;
+
+    @PostConstruct
+    public void reload() {
+        Map<String, BigDecimal> loaded = new HashMap<>();
+        for (FxRate fxRate : fxRateRepository.findAll()) {
+            loaded.put(normalize(fxRate.getCurrency()), fxRate.getRate());
+        }
+        loaded.put(normalize(referenceCurrency), BigDecimal.ONE);
+        rates = Map.copyOf(loaded);
+        loadedAt = System.currentTimeMillis();
+    }
+
+    public String getReferenceCurrency() {
+        return normalize(referenceCurrency);
+    }
+
+    public Map<String, BigDecimal> getRates() {
+        return currentRates();
+    }
+
+    @Transactional
+    public FxRate setRate(String currency, BigDecimal rate) {
+        String code = normalize(currency);
+        if (code.equals(getReferenceCurrency())) {
+            throw new BadRequestException("The reference currency always has rate 1");
+        }
+        FxRate fxRate = fxRateRepository.findByCurrency(code).orElseGet(FxRate::new);
+        fxRate.setCurrency(code);
+        fxRate.setRate(rate);
+        FxRate saved = fxRateRepository.save(fxRate);
+
+        TransactionHooks.afterCommit(this::reload);
+        return saved;
+    }
+
+    /**
+     * Converts per-currency totals into a net worth in {@code baseCurrency}.
+     */
+    public NetWorthResponse toNetWorth(String baseCurrency, Map<String, BigDecimal> totalsByCurrency) {
+        Map<String, BigDecimal> current = currentRates();
+        String base = normalize(baseCurrency);
+        BigDecimal baseRate = current.get(base);
+        if (baseRate == null) {
+            throw new BadRequestException("No exchange rate for currency " + base);
+        }
+
+        NetWorthResponse netWorth = new NetWorthResponse();
+        netWorth.setBaseCurrency(base);
+        totalsByCurrency.forEach((currency, balance) -> {
+            BigDecimal rate = current.get(currency);
+            BigDecimal converted = null;
+            if (rate == null) {
+                netWorth.getMissingRates().add(currency);
+            } else {
+                converted = balance.multiply(rate)
+                        .divide(baseRate, MathContext.DECIMAL64)
+                        .setScale(2, RoundingMode.HALF_EVEN);
+                netWorth.setTotalBalance(netWorth.getTotalBalance().add(converted));
+            }
+            netWorth.getBalancesByCurrency().add(
+                new NetWorthResponse.CurrencyBalance(currency, balance, converted));
+        });
+        return netWorth;
+    }
+
+    public static String normalize(String currency) {
+        return currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private Map<String, BigDecimal> currentRates() {
+        if (System.currentTimeMillis() - loadedAt > refreshMillis) {
+            synchronized (this) {
+                if (System.currentTimeMillis() - loadedAt > refreshMillis) {
+                    reload();
+                }
+            }
+        }
+        return rates;
+    }
+}
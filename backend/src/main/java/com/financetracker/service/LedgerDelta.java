@@ -0,0 +1,63 @@
+package com.financetracker.service;
+
+import com.financetracker.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accumulates the account balance, budget spent and category rollup changes caused
+ * by a group of transactions so they can be written once per row instead of once per transaction.
+ */
+public class LedgerDelta {
+
+    private final Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+    private final Map<BudgetKey, BigDecimal> spentDeltas = new HashMap<>();
+    private final Map<RollupKey, BigDecimal> rollupAmountDeltas = new HashMap<>();
+    private final Map<RollupKey, Long> rollupCountDeltas = new HashMap<>();
+
+    public void add(Transaction transaction) {
+        Long accountId = transaction.getAccount().getId();
+        if (transaction.getType() == Transaction.TransactionType.INCOME) {
+            balanceDeltas.merge(accountId, transaction.getAmount(), BigDecimal::add);
+        } else if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
+            balanceDeltas.merge(accountId, transaction.getAmount().negate(), BigDecimal::add);
+            spentDeltas.merge(BudgetKey.of(transaction.getCategory(), transaction.getTransactionDate()),
+                    transaction.getAmount(), BigDecimal::add);
+        }
+        if (transaction.getType() != Transaction.TransactionType.TRANSFER) {
+            RollupKey key = new RollupKey(transaction.getType(), transaction.getCategory(),
+                    transaction.getTransactionDate().getYear(), transaction.getTransactionDate().getMonthValue());
+            rollupAmountDeltas.merge(key, transaction.getAmount(), BigDecimal::add);
+            rollupCountDeltas.merge(key, 1L, Long::sum);
+        }
+    }
+
+    public Map<Long, BigDecimal> getBalanceDeltas() {
+        return balanceDeltas;
+    }
+
+    public Map<BudgetKey, BigDecimal> getSpentDeltas() {
+        return spentDeltas;
+    }
+
+    public Map<RollupKey, BigDecimal> getRollupAmountDeltas() {
+        return rollupAmountDeltas;
+    }
+
+    public Map<RollupKey, Long> getRollupCountDeltas() {
+        return rollupCountDeltas;
+    }
+
+    public record RollupKey(Transaction.TransactionType type, String category, int year, int month) {
+    }
+
+    public record BudgetKey(String category, int month, int year) {
+
+        public static BudgetKey of(String category, LocalDate date) {
+            return new BudgetKey(category, date.getMonthValue(), date.getYear());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.financetracker.service;
+
+import com.financetracker.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position in a transaction listing ordered by
+ * (transactionDate DESC, id DESC), encoded as an opaque URL-safe token.
+ */
+public final class TransactionCursor {
+
+    // Sorts after every stored row; MySQL DATE tops out at 9999-12-31
+    public static final TransactionCursor START =
+            new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    private final LocalDate transactionDate;
+    private final Long id;
+
+    public TransactionCursor(LocalDate transactionDate, Long id) {
+        this.transactionDate = transactionDate;
+        this.id = id;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.financetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.model.Transaction;
+import com.financetracker.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's full ledger as CSV or NDJSON straight from a database cursor.
+ * Each row is detached once written, so memory stays flat regardless of export size.
+ */
+@Service
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,transactionDate,type,category,amount,description,accountId,accountName\n";
+
+    // Push bytes to the client periodically instead of holding them in the servlet buffer
+    private static final int FLUSH_INTERVAL = 1000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParameter(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportForCurrentUser(Format format, Writer writer) throws IOException {
+        Long currentUserId = authService.getCurrentUserId();
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long count = 0;
+        try (Stream<Transaction> rows = transactionRepository.streamByUserId(currentUserId)) {
+            Iterator<Transaction> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(transaction, writer);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(new TransactionResponse(transaction)));
+                    writer.write('\n');
+                }
+                entityManager.detach(transaction);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Transaction transaction, Writer writer) throws IOException {
+        writer.write(String.valueOf(transaction.getId()));
+        writer.write(',');
+        writer.write(transaction.getTransactionDate().toString());
+        writer.write(',');
+        writer.write(transaction.getType().name());
+        writer.write(',');
+        writer.write(csvField(transaction.getCategory()));
+        writer.write(',');
+        writer.write(transaction.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(csvField(transaction.getDescription()));
+        writer.write(',');
+        writer.write(String.valueOf(transaction.getAccount().getId()));
+        writer.write(',');
+        writer.write(csvField(transaction.getAccount().getName()));
+        writer.write('\n');
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,257 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.ImportResult;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.exception.ResourceNotFoundException;
+import com.financetracker.model.Account;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionDescription;
+import com.financetracker.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk loads a CSV statement. Rows are validated and persisted in chunks that
+ * Hibernate sends as JDBC batches, with each chunk's new categories and descriptions
+ * created by one statement apiece; account balances and budget spend are
+ * accumulated in a {@link LedgerDelta} and written once per account / category-month at the end.
+ *
+ * Expected header (column order is free, unknown columns are ignored):
+ * transactionDate,type,category,amount[,description][,accountId]
+ */
+@Service
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    // Rows persisted between flush/clear; a multiple of hibernate.jdbc.batch_size
+    private static final int CHUNK_SIZE = 1000;
+
+    // Keep the response small even when a whole file is rejected
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private DescriptionDictionary descriptionDictionary;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * @param defaultAccountId account used for rows without an accountId column; may be null
+     */
+    @Transactional
+    public ImportResult importCsv(InputStream input, Long defaultAccountId) throws IOException {
+        long started = System.nanoTime();
+        Long currentUserId = authService.getCurrentUserId();
+        Map<Long, Account> accounts = accountRepository.findByUserId(currentUserId).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        if (defaultAccountId != null && !accounts.containsKey(defaultAccountId)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        Map<String, Integer> columns = indexColumns(header);
+        for (String required : new String[] {"transactiondate", "type", "category", "amount"}) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("Missing required column: " + required);
+            }
+        }
+        if (defaultAccountId == null && !columns.containsKey("accountid")) {
+            throw new BadRequestException("An accountId column or parameter is required");
+        }
+
+        ImportResult result = new ImportResult();
+        LedgerDelta delta = new LedgerDelta();
+        List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            long rowNumber = result.getRowsRead() + 1;
+            result.setRowsRead(rowNumber);
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            try {
+                chunk.add(parseRow(record, columns, accounts, defaultAccountId));
+            } catch (BadRequestException e) {
+                result.setRowsRejected(result.getRowsRejected() + 1);
+                if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    result.getErrors().add(new ImportResult.RowError(rowNumber, e.getMessage()));
+                }
+                continue;
+            }
+            result.setRowsImported(result.getRowsImported() + 1);
+
+            if (chunk.size() == CHUNK_SIZE) {
+                persistChunk(chunk, delta);
+                chunk.clear();
+            }
+        }
+        persistChunk(chunk, delta);
+
+        transactionService.applyLedgerDelta(currentUserId, delta);
+        transactionSearchService.invalidateUserAfterCommit(currentUserId);
+
+        long elapsedNanos = System.nanoTime() - started;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos > 0
+                ? result.getRowsImported() * 1_000_000_000.0 / elapsedNanos : 0);
+        log.info("Imported {} of {} rows for user {} in {} ms ({} rows/sec)",
+                result.getRowsImported(), result.getRowsRead(), currentUserId,
+                result.getElapsedMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            // Tolerate a UTF-8 byte order mark on the first column
+            if (i == 0 && name.startsWith("﻿")) {
+                name = name.substring(1);
+            }
+            columns.putIfAbsent(name, i);
+        }
+        return columns;
+    }
+
+    /**
+     * Resolves the chunk's distinct categories and descriptions with a few statements,
+     * then persists its rows and flushes them as JDBC batches.
+     */
+    private void persistChunk(List<ParsedRow> chunk, LedgerDelta delta) {
+        Map<String, Category.CategoryType> categoryTypes = new HashMap<>();
+        List<String> descriptions = new ArrayList<>(chunk.size());
+        for (ParsedRow row : chunk) {
+            categoryTypes.putIfAbsent(row.transaction().getCategory(),
+                    CategoryDictionary.typeOf(row.transaction().getType()));
+            descriptions.add(row.description());
+        }
+        Map<String, String> categories = categoryDictionary.resolveAll(categoryTypes);
+        Map<String, TransactionDescription> descriptionEntries = descriptionDictionary.entriesFor(descriptions);
+
+        for (ParsedRow row : chunk) {
+            Transaction transaction = row.transaction();
+            transaction.setCategory(categories.get(transaction.getCategory()));
+            transaction.setDescriptionEntry(descriptionEntries.get(row.description()));
+            entityManager.persist(transaction);
+            delta.add(transaction);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * A valid row whose category still has to be resolved to its stored spelling and
+     * whose description still has to be resolved to a dictionary entry.
+     */
+    private record ParsedRow(Transaction transaction, String description) {
+    }
+
+    private ParsedRow parseRow(List<String> record, Map<String, Integer> columns,
+                               Map<Long, Account> accounts, Long defaultAccountId) {
+        Transaction transaction = new Transaction();
+
+        String date = field(record, columns, "transactiondate");
+        try {
+            transaction.setTransactionDate(LocalDate.parse(date));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid transaction date: " + date);
+        }
+
+        String type = field(record, columns, "type");
+        try {
+            transaction.setType(Transaction.TransactionType.valueOf(type.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid transaction type: " + type);
+        }
+
+        String category = field(record, columns, "category");
+        if (category.isEmpty() || category.length() > 50) {
+            throw new BadRequestException("Category must be between 1 and 50 characters");
+        }
+        transaction.setCategory(category);
+
+        String amount = field(record, columns, "amount");
+        try {
+            transaction.setAmount(new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid amount: " + amount);
+        }
+        if (transaction.getAmount().signum() <= 0) {
+            throw new BadRequestException("Amount must be positive");
+        }
+
+        String description = field(record, columns, "description");
+        if (description.length() > 255) {
+            throw new BadRequestException("Description must be at most 255 characters");
+        }
+
+        Long accountId = defaultAccountId;
+        String accountColumn = field(record, columns, "accountid");
+        if (!accountColumn.isEmpty()) {
+            try {
+                accountId = Long.valueOf(accountColumn);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid account id: " + accountColumn);
+            }
+        }
+        Account account = accountId != null ? accounts.get(accountId) : null;
+        if (account == null) {
+            throw new BadRequestException("Account not found");
+        }
+        transaction.setAccount(account);
+        return new ParsedRow(transaction, description);
+    }
+
+    private String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return "";
+        }
+        return record.get(index).trim();
+    }
+}
@@ -0,0 +1,122 @@
+package com.financetracker.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over one user's transaction descriptions and categories. Terms are kept
+ * sorted so a prefix maps to a contiguous range of postings.
+ */
+class TransactionSearchIndex {
+
+    record Hit(Long id, LocalDate transactionDate) {
+    }
+
+    private record Document(LocalDate transactionDate, Set<String> terms) {
+    }
+
+    // (transactionDate DESC, id DESC), the same order as the listing endpoints
+    static final Comparator<Hit> NEWEST_FIRST = Comparator.comparing(Hit::transactionDate)
+            .thenComparing(Hit::id)
+            .reversed();
+
+    private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    synchronized void put(Long id, LocalDate transactionDate, String description, String category) {
+        remove(id);
+        Set<String> terms = new HashSet<>(tokenize(description));
+        terms.addAll(tokenize(category));
+        documents.put(id, new Document(transactionDate, terms));
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    synchronized void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Set<Long> ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Documents containing, for every query term, some term that starts with it;
+     * sorted newest first.
+     */
+    synchronized List<Hit> search(List<String> queryTerms) {
+        Set<Long> matches = null;
+        for (String prefix : queryTerms) {
+            Set<Long> termMatches = new HashSet<>();
+            for (Set<Long> ids : withPrefix(prefix).values()) {
+                if (matches == null) {
+                    termMatches.addAll(ids);
+                } else {
+                    for (Long id : ids) {
+                        if (matches.contains(id)) {
+                            termMatches.add(id);
+                        }
+                    }
+                }
+            }
+            matches = termMatches;
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        if (matches != null) {
+            for (Long id : matches) {
+                hits.add(new Hit(id, documents.get(id).transactionDate()));
+            }
+        }
+        hits.sort(NEWEST_FIRST);
+        return hits;
+    }
+
+    private SortedMap<String, Set<Long>> withPrefix(String prefix) {
+        return postings.subMap(prefix, prefix + Character.MAX_VALUE);
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, in order of first appearance.
+     */
+    static List<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return new ArrayList<>();
+        }
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString().toLowerCase(Locale.ROOT));
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+        }
+        return new ArrayList<>(terms);
+    }
+}
@@ -0,0 +1,139 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.CursorPage;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.model.Transaction;
+import com.financetracker.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prefix and multi-term search over transaction descriptions and categories. Each
+ * user's index is built from the database on first use and then kept current by the
+ * transaction write paths; entries expire after cache.search-index.ttl-ms so writes
+ * made on other instances are eventually picked up.
+ */
+@Service
+public class TransactionSearchService {
+
+    private static final int MAX_QUERY_TERMS = 10;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    private final Cache<Long, TransactionSearchIndex> indexes;
+
+    public TransactionSearchService(@Value("${cache.search-index.maximum-size}") long maximumSize,
+                                    @Value("${cache.search-index.ttl-ms}") long ttlMillis,
+                                    MeterRegistry meterRegistry) {
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "search-index");
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> search(String query, String cursor, Integer size) {
+        Long currentUserId = authService.getCurrentUserId();
+        List<String> terms = TransactionSearchIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must contain a letter or digit");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new BadRequestException("Search query must have at most " + MAX_QUERY_TERMS + " terms");
+        }
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = TransactionService.resolvePageSize(size);
+
+        // Hits are newest first; skip those at or before the cursor position
+        TransactionSearchIndex.Hit after = new TransactionSearchIndex.Hit(position.getId(), position.getTransactionDate());
+        List<TransactionSearchIndex.Hit> hits = indexes.get(currentUserId, this::build).search(terms).stream()
+                .filter(hit -> TransactionSearchIndex.NEWEST_FIRST.compare(hit, after) > 0)
+                .limit(pageSize + 1L)
+                .collect(Collectors.toList());
+
+        boolean hasMore = hits.size() > pageSize;
+        List<TransactionSearchIndex.Hit> pageHits = hasMore ? hits.subList(0, pageSize) : hits;
+        Map<Long, Transaction> rows = transactionRepository.findAllByIdInAndUserId(
+                pageHits.stream().map(TransactionSearchIndex.Hit::id).collect(Collectors.toList()), currentUserId)
+            .stream()
+            .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+
+        List<TransactionResponse> items = pageHits.stream()
+                .map(hit -> rows.get(hit.id()))
+                .filter(Objects::nonNull)
+                .map(TransactionResponse::new)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasMore) {
+            TransactionSearchIndex.Hit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new TransactionCursor(last.transactionDate(), last.id()).encode();
+        }
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Indexes the transaction's current text once the surrounding transaction commits.
+     */
+    public void indexAfterCommit(Long userId, Transaction transaction) {
+        Long id = transaction.getId();
+        LocalDate transactionDate = transaction.getTransactionDate();
+        String description = transaction.getDescription();
+        String category = transaction.getCategory();
+        afterCommit(userId, index -> index.put(id, transactionDate, description, category));
+    }
+
+    public void removeAfterCommit(Long userId, Long transactionId) {
+        afterCommit(userId, index -> index.remove(transactionId));
+    }
+
+    /**
+     * Drops the user's index so the next search rebuilds it; for bulk writes.
+     */
+    public void invalidateUserAfterCommit(Long userId) {
+        TransactionHooks.afterCommit(() -> indexes.invalidate(userId));
+    }
+
+    private TransactionSearchIndex build(Long userId) {
+        TransactionSearchIndex index = new TransactionSearchIndex();
+        try (Stream<TransactionRepository.SearchTextView> rows = transactionRepository.streamSearchTextByUserId(userId)) {
+            rows.forEach(row -> index.put(row.getId(), row.getTransactionDate(), row.getDescription(), row.getCategory()));
+        }
+        return index;
+    }
+
+    // Only an index that is already loaded is updated; one being built concurrently is
+    // dropped instead, since its snapshot may predate this write
+    private void afterCommit(Long userId, Consumer<TransactionSearchIndex> update) {
+        TransactionHooks.afterCommit(() -> {
+            TransactionSearchIndex index = indexes.getIfPresent(userId);
+            if (index != null) {
+                update.accept(index);
+            } else {
+                indexes.invalidate(userId);
+            }
+        });
+    }
+}
@@ -1,27 +1,56 @@
 package com.financetracker.service;
 
+import com.financetracker.dto.BatchItemResult;
+import com.financetracker.dto.CursorPage;
+import com.financetracker.dto.ReportResponse;
+import com.financetracker.dto.TransactionFilter;
 import com.financetracker.dto.TransactionRequest;
 import com.financetracker.dto.TransactionResponse;
+import com.financetracker.exception.BadRequestException;
+import com.financetracker.exception.ResourceNotFoundException;
 import com.financetracker.model.Account;
-import com.financetracker.model.Budget;
+import com.financetracker.model.Category;
 import com.financetracker.model.Transaction;
-import com.financetracker.model.User;
+import com.financetracker.model.TransactionDescription;
 import com.financetracker.repository.AccountRepository;
 import com.financetracker.repository.BudgetRepository;
+import com.financetracker.repository.CategoryMonthlyTotalRepository;
 import com.financetracker.repository.TransactionRepository;
+import com.financetracker.repository.TransactionSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class TransactionService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "transactionDate", "id");
+
+    // Bounds of the MySQL DATE range, used when a report range is left open
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -31,32 +60,53 @@ public class TransactionService {
     @Autowired
     private BudgetRepository budgetRepository;
 
+    @Autowired
+    private CategoryMonthlyTotalRepository categoryMonthlyTotalRepository;
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private DescriptionDictionary descriptionDictionary;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<TransactionResponse> getAllTransactionsForCurrentUser() {
-        User currentUser = authService.getCurrentUser();
-        List<Transaction> transactions = transactionRepository.findByUserIdOrderByTransactionDateDesc(currentUser.getId());
+        Long currentUserId = authService.getCurrentUserId();
+        List<Transaction> transactions = transactionRepository.findByUserIdOrderByTransactionDateDesc(currentUserId);
         return transactions.stream()
                 .map(TransactionResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByDateRange(LocalDate startDate, LocalDate endDate) {
-        User currentUser = authService.getCurrentUser();
-        List<Transaction> transactions = transactionRepository.findByUserIdAndDateRange(currentUser.getId(), startDate, endDate);
+        Long currentUserId = authService.getCurrentUserId();
+        List<Transaction> transactions = transactionRepository.findByUserIdAndDateRange(currentUserId, startDate, endDate);
         return transactions.stream()
                 .map(TransactionResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByAccount(Long accountId) {
-        User currentUser = authService.getCurrentUser();
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-        
-        if (!account.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
+        Long currentUserId = authService.getCurrentUserId();
+        if (!accountRepository.existsByIdAndUserId(accountId, currentUserId)) {
+            throw new ResourceNotFoundException("Account not found");
         }
         
         List<Transaction> transactions = transactionRepository.findByAccountIdOrderByTransactionDateDesc(accountId);
@@ -65,67 +115,327 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
-    public TransactionResponse getTransactionById(Long id) {
-        User currentUser = authService.getCurrentUser();
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionPageForCurrentUser(String cursor, Integer size) {
+        Long currentUserId = authService.getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<Transaction> rows = transactionRepository.findPageByUserId(
+            currentUserId, position.getTransactionDate(), position.getId(),
+            PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionPageByDateRange(
+            LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+        Long currentUserId = authService.getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<Transaction> rows = transactionRepository.findPageByUserIdAndDateRange(
+            currentUserId, startDate, endDate, position.getTransactionDate(), position.getId(),
+            PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionPageByAccount(Long accountId, String cursor, Integer size) {
+        Long currentUserId = authService.getCurrentUserId();
+        if (!accountRepository.existsByIdAndUserId(accountId, currentUserId)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
         
-        if (!transaction.getAccount().getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        List<Transaction> rows = transactionRepository.findPageByAccountId(
+            accountId, position.getTransactionDate(), position.getId(),
+            PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * Keyset page of the transactions matching every supplied criterion, ordered by
+     * (transactionDate DESC, id DESC).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> filterTransactions(TransactionFilter filter, String cursor, Integer size) {
+        Long currentUserId = authService.getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+
+        Specification<Transaction> spec = Specification.where(TransactionSpecifications.ownedBy(currentUserId))
+            .and(TransactionSpecifications.before(position.getTransactionDate(), position.getId()));
+        if (filter.getStartDate() != null) {
+            spec = spec.and(TransactionSpecifications.dateFrom(filter.getStartDate()));
+        }
+        if (filter.getEndDate() != null) {
+            spec = spec.and(TransactionSpecifications.dateTo(filter.getEndDate()));
+        }
+        if (filter.getMinAmount() != null) {
+            spec = spec.and(TransactionSpecifications.amountAtLeast(filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            spec = spec.and(TransactionSpecifications.amountAtMost(filter.getMaxAmount()));
+        }
+        if (filter.getType() != null && !filter.getType().isEmpty()) {
+            spec = spec.and(TransactionSpecifications.typeIn(parseTypes(filter.getType())));
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
+            spec = spec.and(TransactionSpecifications.categoryIn(filter.getCategory()));
+        }
+        if (filter.getAccountId() != null && !filter.getAccountId().isEmpty()) {
+            spec = spec.and(TransactionSpecifications.accountIn(filter.getAccountId()));
+        }
+        if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
+            spec = spec.and(TransactionSpecifications.descriptionContains(filter.getDescription().trim()));
+        }
+
+        List<Transaction> rows = transactionRepository.findBy(spec, query -> query
+            .sortBy(KEYSET_ORDER)
+            .limit(pageSize + 1)
+            .all());
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * Income/expense totals and per-category breakdowns for a date range. Ranges made
+     * of whole months are answered from the monthly rollup; any other range falls back
+     * to a grouped aggregate over transactions. Both leave transfers out of the count.
+     */
+    @Transactional(readOnly = true)
+    public ReportResponse getReport(LocalDate startDate, LocalDate endDate) {
+        Long currentUserId = authService.getCurrentUserId();
+        LocalDate from = startDate != null ? startDate : EARLIEST_DATE;
+        LocalDate to = endDate != null ? endDate : LATEST_DATE;
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+
+        ReportResponse report = new ReportResponse();
+        report.setStartDate(startDate);
+        report.setEndDate(endDate);
+
+        boolean wholeMonths = from.getDayOfMonth() == 1
+            && to.getDayOfMonth() == to.lengthOfMonth();
+        List<TransactionRepository.CategoryTotalView> rows = wholeMonths
+            ? categoryMonthlyTotalRepository.sumByTypeAndCategory(currentUserId,
+                from.getYear(), from.getMonthValue(), to.getYear(), to.getMonthValue())
+            : transactionRepository.sumByTypeAndCategory(currentUserId, from, to);
+
+        for (TransactionRepository.CategoryTotalView row : rows) {
+            ReportResponse.CategoryTotal total = new ReportResponse.CategoryTotal(
+                row.getCategory(), row.getTotal(), row.getCount());
+            // Transfers are not in the rollup, so neither path counts them
+            if (row.getType() == Transaction.TransactionType.INCOME) {
+                report.setTotalIncome(report.getTotalIncome().add(row.getTotal()));
+                report.getIncomeByCategory().add(total);
+                report.setTransactionCount(report.getTransactionCount() + row.getCount());
+            } else if (row.getType() == Transaction.TransactionType.EXPENSE) {
+                report.setTotalExpenses(report.getTotalExpenses().add(row.getTotal()));
+                report.getExpensesByCategory().add(total);
+                report.setTransactionCount(report.getTransactionCount() + row.getCount());
+            }
         }
+
+        Comparator<ReportResponse.CategoryTotal> largestFirst =
+            Comparator.comparing(ReportResponse.CategoryTotal::getAmount).reversed();
+        report.getIncomeByCategory().sort(largestFirst);
+        report.getExpensesByCategory().sort(largestFirst);
+        report.setNetIncome(report.getTotalIncome().subtract(report.getTotalExpenses()));
+        return report;
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionResponse getTransactionById(Long id) {
+        Long currentUserId = authService.getCurrentUserId();
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
         
         return new TransactionResponse(transaction);
     }
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
-        User currentUser = authService.getCurrentUser();
-        Account account = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-        
-        if (!account.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Account account = accountRepository.findByIdAndUserId(request.getAccountId(), currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
 
         // Create transaction entity
         Transaction transaction = new Transaction();
         transaction.setType(Transaction.TransactionType.valueOf(request.getType()));
         transaction.setAmount(request.getAmount());
-        transaction.setCategory(request.getCategory());
-        transaction.setDescription(request.getDescription());
+        transaction.setCategory(categoryDictionary.resolve(request.getCategory(), CategoryDictionary.typeOf(transaction.getType())));
+        transaction.setDescriptionEntry(descriptionDictionary.entryFor(request.getDescription()));
         transaction.setTransactionDate(request.getTransactionDate() != null ? 
             request.getTransactionDate() : LocalDate.now());
         transaction.setAccount(account);
 
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionSearchService.indexAfterCommit(currentUserId, savedTransaction);
+
         // Update account balance
-        if (transaction.getType() == Transaction.TransactionType.INCOME) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
-        } else if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
+        BigDecimal balanceDelta = balanceEffect(transaction.getType(), transaction.getAmount());
+        if (balanceDelta.signum() != 0) {
+            accountRepository.addToBalance(account.getId(), balanceDelta);
+            entityManager.refresh(account);
         }
-
-        accountRepository.save(account);
-        Transaction savedTransaction = transactionRepository.save(transaction);
         
         // Update budget if it's an expense
         if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            updateBudgetSpent(currentUser.getId(), transaction.getCategory(), 
+            updateBudgetSpent(currentUserId, transaction.getCategory(), 
                 transaction.getTransactionDate(), transaction.getAmount());
         }
+        updateCategoryRollup(currentUserId, transaction.getType(), transaction.getCategory(),
+            transaction.getTransactionDate(), transaction.getAmount(), 1);
+        dataVersionService.bump(currentUserId);
         
         return new TransactionResponse(savedTransaction);
     }
 
+    /**
+     * Creates many transactions in one unit of work. The user and their accounts are
+     * resolved once, and balance/budget changes are coalesced so every affected account
+     * and budget row is written once. Invalid items are reported and skipped.
+     */
+    @Transactional
+    public List<BatchItemResult> createTransactions(List<TransactionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one transaction");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must contain at most " + MAX_BATCH_SIZE + " transactions");
+        }
+
+        Long currentUserId = authService.getCurrentUserId();
+        Map<Long, Account> accounts = accountRepository.findByUserId(currentUserId).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<Transaction> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        LedgerDelta delta = new LedgerDelta();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TransactionRequest request = requests.get(i);
+            results.add(null);
+            try {
+                accepted.add(buildBatchTransaction(request, accounts));
+                acceptedIndexes.add(i);
+            } catch (BadRequestException e) {
+                results.set(i, BatchItemResult.rejected(i, e.getMessage()));
+            }
+        }
+
+        // Categories and descriptions of the accepted items are resolved together
+        Map<String, Category.CategoryType> categoryTypes = new HashMap<>();
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            Transaction transaction = accepted.get(i);
+            categoryTypes.putIfAbsent(transaction.getCategory(), CategoryDictionary.typeOf(transaction.getType()));
+            descriptions.add(requests.get(acceptedIndexes.get(i)).getDescription());
+        }
+        Map<String, String> categories = categoryDictionary.resolveAll(categoryTypes);
+        Map<String, TransactionDescription> descriptionEntries = descriptionDictionary.entriesFor(descriptions);
+        for (int i = 0; i < accepted.size(); i++) {
+            Transaction transaction = accepted.get(i);
+            transaction.setCategory(categories.get(transaction.getCategory()));
+            transaction.setDescriptionEntry(descriptionEntries.get(descriptions.get(i)));
+            delta.add(transaction);
+        }
+
+        List<Transaction> saved = transactionRepository.saveAll(accepted);
+        for (Transaction transaction : saved) {
+            transactionSearchService.indexAfterCommit(currentUserId, transaction);
+        }
+        applyLedgerDelta(currentUserId, delta);
+        for (Long accountId : delta.getBalanceDeltas().keySet()) {
+            entityManager.refresh(accounts.get(accountId));
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results.set(index, BatchItemResult.created(index, new TransactionResponse(saved.get(i))));
+        }
+        return results;
+    }
+
+    /**
+     * Writes coalesced balance, budget spent and rollup changes, one update per affected row.
+     */
+    @Transactional
+    public void applyLedgerDelta(Long userId, LedgerDelta delta) {
+        for (Map.Entry<Long, BigDecimal> entry : delta.getBalanceDeltas().entrySet()) {
+            if (entry.getValue().signum() != 0) {
+                accountRepository.addToBalance(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<LedgerDelta.BudgetKey, BigDecimal> entry : delta.getSpentDeltas().entrySet()) {
+            LedgerDelta.BudgetKey key = entry.getKey();
+            updateBudgetSpent(userId, key.category(), LocalDate.of(key.year(), key.month(), 1), entry.getValue());
+        }
+        for (Map.Entry<LedgerDelta.RollupKey, BigDecimal> entry : delta.getRollupAmountDeltas().entrySet()) {
+            LedgerDelta.RollupKey key = entry.getKey();
+            categoryMonthlyTotalRepository.addDelta(userId, key.type().name(), key.category(),
+                key.year(), key.month(), entry.getValue(), delta.getRollupCountDeltas().get(key));
+        }
+        dataVersionService.bump(userId);
+    }
+
+    /**
+     * Deletes all of an account's transactions ahead of the account itself, taking them out
+     * of budget spent and the monthly rollup as deleteTransaction does. One update per
+     * affected budget and rollup row and one bulk delete, instead of loading every row.
+     */
+    @Transactional
+    public void deleteAccountTransactions(Long userId, Long accountId) {
+        for (TransactionRepository.MonthlyCategoryTotalView row : transactionRepository.sumByMonthAndCategory(accountId)) {
+            LocalDate month = LocalDate.of(row.getYear(), row.getMonth(), 1);
+            if (row.getType() == Transaction.TransactionType.EXPENSE) {
+                updateBudgetSpent(userId, row.getCategory(), month, row.getTotal().negate());
+            }
+            updateCategoryRollup(userId, row.getType(), row.getCategory(), month,
+                row.getTotal().negate(), -row.getCount());
+        }
+        transactionRepository.deleteByAccountId(accountId);
+    }
+
+    private Transaction buildBatchTransaction(TransactionRequest request, Map<Long, Account> accounts) {
+        if (request == null) {
+            throw new BadRequestException("Transaction is required");
+        }
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.iterator().next().getMessage());
+        }
+
+        Account account = accounts.get(request.getAccountId());
+        if (account == null) {
+            throw new BadRequestException("Account not found");
+        }
+
+        Transaction transaction = new Transaction();
+        try {
+            transaction.setType(Transaction.TransactionType.valueOf(request.getType()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid transaction type: " + request.getType());
+        }
+        if (request.getCategory().isBlank()) {
+            throw new BadRequestException("Category is required");
+        }
+        transaction.setAmount(request.getAmount());
+        // Replaced by the stored spelling once the whole batch is resolved
+        transaction.setCategory(request.getCategory());
+        transaction.setTransactionDate(request.getTransactionDate());
+        transaction.setAccount(account);
+        return transaction;
+    }
+
     @Transactional
     public TransactionResponse updateTransaction(Long id, TransactionRequest request) {
         // Get the original transaction using the internal method
-        User currentUser = authService.getCurrentUser();
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
-        
-        if (!transaction.getAccount().getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
         
         Account oldAccount = transaction.getAccount();
         
@@ -135,81 +445,81 @@ public class TransactionService {
         BigDecimal oldAmount = transaction.getAmount();
         LocalDate oldDate = transaction.getTransactionDate();
 
-        // Reverse old transaction from old account
-        if (transaction.getType() == Transaction.TransactionType.INCOME) {
-            oldAccount.setBalance(oldAccount.getBalance().subtract(transaction.getAmount()));
-        } else if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            oldAccount.setBalance(oldAccount.getBalance().add(transaction.getAmount()));
-        }
-        
         // Reverse old budget update if it was an expense
         if (oldType == Transaction.TransactionType.EXPENSE) {
-            updateBudgetSpent(currentUser.getId(), oldCategory, oldDate, oldAmount.negate());
+            updateBudgetSpent(currentUserId, oldCategory, oldDate, oldAmount.negate());
         }
+        updateCategoryRollup(currentUserId, oldType, oldCategory, oldDate, oldAmount.negate(), -1);
 
         // Get new account (might be the same as old account)
-        Account newAccount = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-        
-        if (!newAccount.getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Account newAccount = accountRepository.findByIdAndUserId(request.getAccountId(), currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
 
         // Update transaction
         transaction.setType(Transaction.TransactionType.valueOf(request.getType()));
         transaction.setAmount(request.getAmount());
-        transaction.setCategory(request.getCategory());
-        transaction.setDescription(request.getDescription());
+        transaction.setCategory(categoryDictionary.resolve(request.getCategory(), CategoryDictionary.typeOf(transaction.getType())));
+        transaction.setDescriptionEntry(descriptionDictionary.entryFor(request.getDescription()));
         transaction.setTransactionDate(request.getTransactionDate());
         transaction.setAccount(newAccount);
 
-        // Apply new transaction to new account
-        if (transaction.getType() == Transaction.TransactionType.INCOME) {
-            newAccount.setBalance(newAccount.getBalance().add(transaction.getAmount()));
-        } else if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            newAccount.setBalance(newAccount.getBalance().subtract(transaction.getAmount()));
-        }
+        Transaction updatedTransaction = transactionRepository.save(transaction);
+        transactionSearchService.indexAfterCommit(currentUserId, updatedTransaction);
 
-        accountRepository.save(oldAccount);
-        if (!oldAccount.getId().equals(newAccount.getId())) {
-            accountRepository.save(newAccount);
+        // Reverse old transaction from old account and apply new one to new account
+        BigDecimal reversal = balanceEffect(oldType, oldAmount).negate();
+        BigDecimal application = balanceEffect(transaction.getType(), transaction.getAmount());
+        if (oldAccount.getId().equals(newAccount.getId())) {
+            BigDecimal net = reversal.add(application);
+            if (net.signum() != 0) {
+                accountRepository.addToBalance(newAccount.getId(), net);
+            }
+        } else {
+            if (reversal.signum() != 0) {
+                accountRepository.addToBalance(oldAccount.getId(), reversal);
+            }
+            if (application.signum() != 0) {
+                accountRepository.addToBalance(newAccount.getId(), application);
+            }
         }
-        
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        entityManager.refresh(newAccount);
         
         // Update budget if new transaction is an expense
         if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            updateBudgetSpent(currentUser.getId(), transaction.getCategory(), 
+            updateBudgetSpent(currentUserId, transaction.getCategory(), 
                 transaction.getTransactionDate(), transaction.getAmount());
         }
+        updateCategoryRollup(currentUserId, transaction.getType(), transaction.getCategory(),
+            transaction.getTransactionDate(), transaction.getAmount(), 1);
+        dataVersionService.bump(currentUserId);
         
         return new TransactionResponse(updatedTransaction);
     }
 
     @Transactional
     public void deleteTransaction(Long id) {
-        User currentUser = authService.getCurrentUser();
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
-        
-        if (!transaction.getAccount().getUser().getId().equals(currentUser.getId())) {
-            throw new RuntimeException("Access denied");
-        }
+        Long currentUserId = authService.getCurrentUserId();
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
         
         Account account = transaction.getAccount();
 
         // Reverse transaction
-        if (transaction.getType() == Transaction.TransactionType.INCOME) {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-        } else if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
+        BigDecimal reversal = balanceEffect(transaction.getType(), transaction.getAmount()).negate();
+        if (reversal.signum() != 0) {
+            accountRepository.addToBalance(account.getId(), reversal);
+        }
+        if (transaction.getType() == Transaction.TransactionType.EXPENSE) {
             // Reverse budget spent
-            updateBudgetSpent(currentUser.getId(), transaction.getCategory(), 
+            updateBudgetSpent(currentUserId, transaction.getCategory(), 
                 transaction.getTransactionDate(), transaction.getAmount().negate());
         }
+        updateCategoryRollup(currentUserId, transaction.getType(), transaction.getCategory(),
+            transaction.getTransactionDate(), transaction.getAmount().negate(), -1);
 
-        accountRepository.save(account);
         transactionRepository.delete(transaction);
+        transactionSearchService.removeAfterCommit(currentUserId, transaction.getId());
+        dataVersionService.bump(currentUserId);
     }
     
     /**
@@ -220,22 +530,74 @@ public class TransactionService {
      * @param amount The amount to add to spent (use negative to subtract)
      */
     private void updateBudgetSpent(Long userId, String category, LocalDate transactionDate, BigDecimal amount) {
-        int month = transactionDate.getMonthValue();
-        int year = transactionDate.getYear();
-        
-        Optional<Budget> budgetOptional = budgetRepository.findByUserIdAndCategoryAndMonthAndYear(
-            userId, category, month, year
-        );
-        
-        if (budgetOptional.isPresent()) {
-            Budget budget = budgetOptional.get();
-            budget.setSpent(budget.getSpent().add(amount));
-            // Ensure spent doesn't go below zero
-            if (budget.getSpent().compareTo(BigDecimal.ZERO) < 0) {
-                budget.setSpent(BigDecimal.ZERO);
+        // Single atomic UPDATE, floored at zero; if no budget exists for this category/month
+        // nothing is changed (don't create one)
+        budgetRepository.addToSpent(userId, category, transactionDate.getMonthValue(),
+            transactionDate.getYear(), amount);
+    }
+
+    /**
+     * Signed change a transaction makes to its account balance.
+     */
+    private BigDecimal balanceEffect(Transaction.TransactionType type, BigDecimal amount) {
+        if (type == Transaction.TransactionType.INCOME) {
+            return amount;
+        } else if (type == Transaction.TransactionType.EXPENSE) {
+            return amount.negate();
+        }
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * Applies a change to the user's category/month rollup as an atomic in-database
+     * increment. Transfers are not tracked.
+     */
+    private void updateCategoryRollup(Long userId, Transaction.TransactionType type, String category,
+                                      LocalDate transactionDate, BigDecimal amount, long count) {
+        if (type == Transaction.TransactionType.TRANSFER) {
+            return;
+        }
+        categoryMonthlyTotalRepository.addDelta(userId, type.name(), category,
+            transactionDate.getYear(), transactionDate.getMonthValue(), amount, count);
+    }
+
+    private List<Transaction.TransactionType> parseTypes(List<String> types) {
+        List<Transaction.TransactionType> parsed = new ArrayList<>(types.size());
+        for (String type : types) {
+            try {
+                parsed.add(Transaction.TransactionType.valueOf(type));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid transaction type: " + type);
             }
-            budgetRepository.save(budget);
         }
-        // If no budget exists for this category/month, silently skip (don't create one)
+        return parsed;
+    }
+
+    static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a page from a query that fetched one row more than requested; the extra
+     * row only signals that another page exists and is not returned.
+     */
+    private CursorPage<TransactionResponse> toPage(List<Transaction> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+        List<TransactionResponse> items = pageRows.stream()
+                .map(TransactionResponse::new)
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, hasMore);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,2 @@
+-- Embedded in issued tokens; incrementing it revokes all of a user's tokens.
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Change counter per rollup row; cached cash-flow periods are checked against it.
+ALTER TABLE category_monthly_totals ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
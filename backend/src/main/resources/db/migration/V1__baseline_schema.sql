@@ -0,0 +1,68 @@
+-- Baseline schema: exactly what ddl-auto=update created from the entities before the
+-- schema was versioned, including Hibernate's generated constraint names. Existing
+-- databases are baselined at this version and skip this script, so every later table
+-- or column is added by its own migration.
+
+CREATE TABLE users (
+    id         BIGINT                NOT NULL AUTO_INCREMENT,
+    active     BIT(1)                NOT NULL,
+    created_at DATETIME(6)           NOT NULL,
+    email      VARCHAR(255)          NOT NULL,
+    name       VARCHAR(255)          NOT NULL,
+    password   VARCHAR(255)          NOT NULL,
+    phone      VARCHAR(255),
+    role       ENUM ('USER','ADMIN') NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE accounts (
+    id         BIGINT                                                        NOT NULL AUTO_INCREMENT,
+    balance    DECIMAL(15, 2)                                                NOT NULL,
+    created_at DATETIME(6)                                                   NOT NULL,
+    currency   VARCHAR(255)                                                  NOT NULL,
+    name       VARCHAR(255)                                                  NOT NULL,
+    type       ENUM ('SAVINGS','CHECKING','CREDIT_CARD','CASH','INVESTMENT') NOT NULL,
+    updated_at DATETIME(6),
+    user_id    BIGINT                                                        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKnjuop33mo69pd79ctplkck40n FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE transactions (
+    id               BIGINT                               NOT NULL AUTO_INCREMENT,
+    amount           DECIMAL(15, 2)                       NOT NULL,
+    category         VARCHAR(255)                         NOT NULL,
+    created_at       DATETIME(6)                          NOT NULL,
+    description      VARCHAR(255),
+    transaction_date DATE                                 NOT NULL,
+    type             ENUM ('INCOME','EXPENSE','TRANSFER') NOT NULL,
+    account_id       BIGINT                               NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK20w7wsg13u9srbq3bd7chfxdh FOREIGN KEY (account_id) REFERENCES accounts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE budgets (
+    id           BIGINT         NOT NULL AUTO_INCREMENT,
+    category     VARCHAR(255)   NOT NULL,
+    created_at   DATETIME(6)    NOT NULL,
+    budget_limit DECIMAL(15, 2) NOT NULL,
+    month        INT            NOT NULL,
+    spent        DECIMAL(15, 2) NOT NULL,
+    updated_at   DATETIME(6),
+    year         INT            NOT NULL,
+    user_id      BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKln0tm5tgf3f9q3sp9sa5m8m7b FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id    BIGINT                   NOT NULL AUTO_INCREMENT,
+    color VARCHAR(255),
+    icon  VARCHAR(255),
+    name  VARCHAR(255)             NOT NULL,
+    type  ENUM ('INCOME','EXPENSE') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK_t8o6pivur7nn124jehx7cygw5 UNIQUE (name)
+) ENGINE = InnoDB;
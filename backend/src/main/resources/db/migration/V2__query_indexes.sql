@@ -0,0 +1,12 @@
+-- Indexes matching the repository queries.
+
+-- Account listings and keyset pages: WHERE account_id = ? ORDER BY transaction_date DESC, id DESC.
+-- User-wide listings reach transactions through accounts(user_id) and use the same index per account.
+CREATE INDEX idx_transactions_account_date_id ON transactions (account_id, transaction_date, id);
+
+-- One budget per user, category and month. Leading with (user_id, year, month) also serves
+-- findByUserIdAndMonthAndYear; findByUserId uses the user_id prefix.
+CREATE UNIQUE INDEX uk_budgets_user_period_category ON budgets (user_id, year, month, category);
+
+-- findByUserId on accounts
+CREATE INDEX idx_accounts_user ON accounts (user_id);
@@ -0,0 +1,9 @@
+-- Backs the pooled id generator on Transaction.id. Ids were issued by AUTO_INCREMENT
+-- before, and the pooled optimizer hands out the block of 50 ending at the stored value,
+-- so start at least one allocation above the highest existing id.
+CREATE TABLE transactions_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO transactions_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM transactions;
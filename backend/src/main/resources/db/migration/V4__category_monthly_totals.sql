@@ -0,0 +1,22 @@
+-- Running totals per user, type, category and month behind the whole-month reports,
+-- populated from the existing transactions. Transfers are not rolled up.
+CREATE TABLE category_monthly_totals (
+    id        BIGINT                               NOT NULL AUTO_INCREMENT,
+    user_id   BIGINT                               NOT NULL,
+    type      ENUM ('INCOME','EXPENSE','TRANSFER') NOT NULL,
+    category  VARCHAR(50)                          NOT NULL,
+    year      INT                                  NOT NULL,
+    month     INT                                  NOT NULL,
+    total     DECIMAL(15, 2)                       NOT NULL,
+    txn_count BIGINT                               NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_monthly_totals_key UNIQUE (user_id, type, category, year, month)
+) ENGINE = InnoDB;
+
+INSERT INTO category_monthly_totals (user_id, type, category, year, month, total, txn_count)
+SELECT a.user_id, t.type, t.category, YEAR(t.transaction_date), MONTH(t.transaction_date),
+       SUM(t.amount), COUNT(*)
+FROM transactions t
+JOIN accounts a ON a.id = t.account_id
+WHERE t.type IN ('INCOME', 'EXPENSE')
+GROUP BY a.user_id, t.type, t.category, YEAR(t.transaction_date), MONTH(t.transaction_date);
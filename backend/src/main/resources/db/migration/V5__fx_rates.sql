@@ -0,0 +1,10 @@
+-- Exchange rates for net-worth conversion: value of one unit of the currency
+-- in the reference currency (fx.reference-currency).
+CREATE TABLE fx_rates (
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    currency   VARCHAR(10)    NOT NULL,
+    rate       DECIMAL(19, 8) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_fx_rates_currency UNIQUE (currency)
+) ENGINE = InnoDB;
@@ -0,0 +1,2 @@
+-- Category-set filters: per account, seek each category and read it in date order.
+CREATE INDEX idx_transactions_account_category_date ON transactions (account_id, category, transaction_date, id);
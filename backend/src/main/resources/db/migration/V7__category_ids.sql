@@ -0,0 +1,45 @@
+-- Transactions and budgets reference categories by id instead of repeating the name.
+
+-- Every category name in use becomes a categories row. A transaction category takes the
+-- type most of its transactions have; budgets only ever track spending.
+INSERT IGNORE INTO categories (name, type)
+SELECT t.category,
+       CASE WHEN SUM(t.type = 'INCOME') > SUM(t.type <> 'INCOME') THEN 'INCOME' ELSE 'EXPENSE' END
+FROM transactions t
+GROUP BY t.category;
+
+INSERT IGNORE INTO categories (name, type)
+SELECT DISTINCT b.category, 'EXPENSE'
+FROM budgets b;
+
+-- Transactions
+ALTER TABLE transactions ADD COLUMN category_id BIGINT NULL AFTER amount;
+
+UPDATE transactions t
+JOIN categories c ON c.name = t.category
+SET t.category_id = c.id;
+
+ALTER TABLE transactions
+    MODIFY category_id BIGINT NOT NULL,
+    ADD CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id);
+
+CREATE INDEX idx_transactions_account_category_id_date
+    ON transactions (account_id, category_id, transaction_date, id);
+DROP INDEX idx_transactions_account_category_date ON transactions;
+ALTER TABLE transactions DROP COLUMN category;
+
+-- Budgets. The new unique key is created before the old one is dropped, since either
+-- can back fk_budgets_user.
+ALTER TABLE budgets ADD COLUMN category_id BIGINT NULL AFTER id;
+
+UPDATE budgets b
+JOIN categories c ON c.name = b.category
+SET b.category_id = c.id;
+
+ALTER TABLE budgets
+    MODIFY category_id BIGINT NOT NULL,
+    ADD CONSTRAINT fk_budgets_category FOREIGN KEY (category_id) REFERENCES categories (id);
+
+CREATE UNIQUE INDEX uk_budgets_user_period_category_id ON budgets (user_id, year, month, category_id);
+DROP INDEX uk_budgets_user_period_category ON budgets;
+ALTER TABLE budgets DROP COLUMN category;
@@ -0,0 +1,26 @@
+-- Transaction descriptions are stored once in a dictionary and referenced by id.
+-- hash is SHA-256 of the UTF-8 text, computed the same way by DescriptionDictionary.
+CREATE TABLE transaction_descriptions (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    hash        BINARY(32)   NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_transaction_descriptions_hash UNIQUE (hash)
+) ENGINE = InnoDB;
+
+-- DISTINCT includes the hash, so spellings the column collation treats as equal stay separate
+INSERT IGNORE INTO transaction_descriptions (hash, description)
+SELECT DISTINCT UNHEX(SHA2(t.description, 256)), t.description
+FROM transactions t
+WHERE t.description IS NOT NULL AND t.description <> '';
+
+ALTER TABLE transactions ADD COLUMN description_id BIGINT NULL AFTER category_id;
+
+UPDATE transactions t
+JOIN transaction_descriptions d ON d.hash = UNHEX(SHA2(t.description, 256))
+SET t.description_id = d.id
+WHERE t.description IS NOT NULL AND t.description <> '';
+
+ALTER TABLE transactions
+    ADD CONSTRAINT fk_transactions_description FOREIGN KEY (description_id) REFERENCES transaction_descriptions (id),
+    DROP COLUMN description;
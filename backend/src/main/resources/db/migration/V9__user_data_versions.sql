@@ -0,0 +1,8 @@
+-- Per-user data version behind the ETags of the account, transaction and budget reads.
+-- Bumped in the same database transaction as every write; a missing row means version 0.
+CREATE TABLE user_data_versions (
+    user_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_data_versions_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,140 @@
+package com.financetracker;
+
+import jakarta.persistence.Entity;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on MySQL, both on an empty database and on one created by
+ * the old ddl-auto=update setup (the V1 schema with data, baselined like production),
+ * and checks the result against the entity mappings.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @Test
+    void migratesEmptyDatabase() {
+        DataSource dataSource = newDatabase();
+
+        flyway(dataSource).migrate();
+
+        assertThat(Arrays.stream(flyway(dataSource).info().applied()).map(MigrationInfo::getScript))
+            .first().isEqualTo("V1__baseline_schema.sql");
+        validateEntities(dataSource);
+    }
+
+    @Test
+    void upgradesDatabaseCreatedBeforeMigrations() throws SQLException {
+        DataSource dataSource = newDatabase();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (id, active, created_at, email, name, password, role) "
+            + "VALUES (7, 1, NOW(6), 'legacy@example.com', 'Legacy', 'hash', 'USER')");
+        jdbc.update("INSERT INTO accounts (id, balance, created_at, currency, name, type, user_id) "
+            + "VALUES (3, 945.00, NOW(6), 'INR', 'Checking', 'CHECKING', 7)");
+        jdbc.update("INSERT INTO transactions (id, amount, category, created_at, description, transaction_date, type, account_id) VALUES "
+            + "(101, 40.00, 'Groceries', NOW(6), 'Corner shop', '2024-03-05', 'EXPENSE', 3), "
+            + "(102, 10.00, 'Groceries', NOW(6), 'Corner shop', '2024-03-20', 'EXPENSE', 3), "
+            + "(103, 1000.00, 'Salary', NOW(6), NULL, '2024-03-01', 'INCOME', 3), "
+            + "(104, 5.00, 'Savings', NOW(6), '', '2024-03-02', 'TRANSFER', 3)");
+        jdbc.update("INSERT INTO budgets (category, created_at, budget_limit, month, spent, year, user_id) "
+            + "VALUES ('Groceries', NOW(6), 200.00, 3, 50.00, 2024, 7)");
+
+        flyway(dataSource).migrate();
+
+        assertThat(flyway(dataSource).info().current().getVersion().getVersion()).isEqualTo("11");
+        assertThat(jdbc.queryForObject("SELECT token_version FROM users WHERE id = 7", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT next_val FROM transactions_seq", Long.class)).isEqualTo(104 + 51);
+        assertThat(jdbc.queryForList("SELECT type, category, year, month, total, txn_count FROM category_monthly_totals "
+                + "WHERE user_id = 7"))
+            .extracting(row -> row.get("type") + " " + row.get("category") + " " + row.get("year") + "-"
+                + row.get("month") + " " + ((BigDecimal) row.get("total")).toPlainString() + " x" + row.get("txn_count"))
+            .containsExactlyInAnyOrder("EXPENSE Groceries 2024-3 50.00 x2", "INCOME Salary 2024-3 1000.00 x1");
+        assertThat(jdbc.queryForList("SELECT c.name, d.description FROM transactions t "
+                + "JOIN categories c ON c.id = t.category_id "
+                + "LEFT JOIN transaction_descriptions d ON d.id = t.description_id ORDER BY t.id"))
+            .extracting(row -> row.get("name") + "/" + row.get("description"))
+            .containsExactly("Groceries/Corner shop", "Groceries/Corner shop", "Salary/null", "Savings/null");
+        assertThat(jdbc.queryForObject("SELECT c.name FROM budgets b JOIN categories c ON c.id = b.category_id",
+            String.class)).isEqualTo("Groceries");
+        validateEntities(dataSource);
+    }
+
+    private static DataSource newDatabase() {
+        String name = "migration_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        new JdbcTemplate(dataSource(MYSQL.getJdbcUrl())).execute("CREATE DATABASE " + name);
+        return dataSource("jdbc:mysql://" + MYSQL.getHost() + ":" + MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + name
+            // Schema validation reads this database only, not every database on the server
+            + "?nullCatalogMeansCurrent=true");
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, MYSQL.getUsername(), MYSQL.getPassword());
+    }
+
+    /**
+     * Configured like spring.flyway.* in application.properties.
+     */
+    private static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+            .dataSource(dataSource)
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load();
+    }
+
+    /**
+     * Starts Hibernate with ddl-auto=validate, which fails when a mapped table or column is
+     * missing or has an incompatible type.
+     */
+    private static void validateEntities(DataSource dataSource) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.DATASOURCE, dataSource)
+            .applySetting(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+            .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "validate")
+            .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+            scanner.findCandidateComponents("com.financetracker.model")
+                .forEach(entity -> sources.addAnnotatedClassName(entity.getBeanClassName()));
+            sources.buildMetadata().buildSessionFactory().close();
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.financetracker.config;
+
+import com.financetracker.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes against two embedded H2 pools, each holding a row that names the database.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-1";
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary");
+        replica = pool("replica");
+        meterRegistry = new SimpleMeterRegistry();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(List.of(REPLICA), 60_000, meterRegistry);
+        routing.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primary, REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        signIn(1L);
+        assertThat(databaseInReadOnlyTransaction()).isEqualTo("replica");
+        assertThat(routes("replica", "read-only")).isEqualTo(1.0);
+    }
+
+    @Test
+    void readWriteTransactionsGoToThePrimary() {
+        signIn(1L);
+        assertThat(databaseInWriteTransaction()).isEqualTo("primary");
+        assertThat(routes(ReplicaRoutingDataSource.PRIMARY, "write")).isEqualTo(1.0);
+    }
+
+    @Test
+    void writerKeepsReadingFromThePrimaryWithinTheStickyWindow() {
+        signIn(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = name"));
+
+        assertThat(databaseInReadOnlyTransaction()).isEqualTo("primary");
+        assertThat(routes(ReplicaRoutingDataSource.PRIMARY, "sticky")).isEqualTo(1.0);
+
+        signIn(2L);
+        assertThat(databaseInReadOnlyTransaction()).isEqualTo("replica");
+    }
+
+    @Test
+    void statementsOutsideATransactionUseThePrimaryWithoutPinning() {
+        signIn(1L);
+        // The lazy proxy may already have borrowed a connection to read the pool defaults
+        double before = routes(ReplicaRoutingDataSource.PRIMARY, "non-transactional");
+        assertThat(database()).isEqualTo("primary");
+        assertThat(routes(ReplicaRoutingDataSource.PRIMARY, "non-transactional")).isEqualTo(before + 1);
+
+        assertThat(databaseInReadOnlyTransaction()).isEqualTo("replica");
+    }
+
+    private String databaseInReadOnlyTransaction() {
+        return readOnlyTransaction.execute(status -> database());
+    }
+
+    private String databaseInWriteTransaction() {
+        return writeTransaction.execute(status -> database());
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private double routes(String route, String reason) {
+        return meterRegistry.get("datasource.routes").tag("route", route).tag("reason", reason).counter().count();
+    }
+
+    private static void signIn(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", "", "USER", 0, true);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(2);
+        JdbcTemplate setup = new JdbcTemplate(pool);
+        setup.execute("DROP TABLE IF EXISTS marker");
+        setup.execute("CREATE TABLE marker (name VARCHAR(20))");
+        setup.update("INSERT INTO marker VALUES (?)", name);
+        return pool;
+    }
+}
@@ -0,0 +1,150 @@
+package com.financetracker.controller;
+
+import com.financetracker.model.Account;
+import com.financetracker.model.User;
+import com.financetracker.repository.AccountRepository;
+import com.financetracker.repository.UserRepository;
+import com.financetracker.security.AuthenticatedUser;
+import com.financetracker.security.JwtTokenProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent authenticated reads against a running server, reporting throughput and
+ * latency percentiles. Run it once per threading mode and compare the output:
+ *
+ * <p>mvn -Pbenchmark test -Dtest=RequestThroughputBenchmark -Dbenchmark.clients=200
+ * <br>mvn -Pbenchmark,java21 test -Dtest=RequestThroughputBenchmark -Dbenchmark.clients=200
+ * -Dspring.profiles.active=test,virtual-threads
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RequestThroughputBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 50);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests-per-client", 40);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void reportsThroughputUnderConcurrentClients() throws Exception {
+        String token = tokenForNewUser();
+        URI uri = URI.create("http://localhost:" + port + "/api/accounts");
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+
+        // Warm up the server and the client before measuring
+        for (int i = 0; i < 200; i++) {
+            send(client, uri, token);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Callable<long[]>> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.add(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    long started = System.nanoTime();
+                    send(client, uri, token);
+                    latencies[i] = System.nanoTime() - started;
+                }
+                return latencies;
+            });
+        }
+
+        long started = System.nanoTime();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        try {
+            int position = 0;
+            for (Future<long[]> result : executor.invokeAll(clients)) {
+                long[] clientLatencies = result.get();
+                System.arraycopy(clientLatencies, 0, latencies, position, clientLatencies.length);
+                position += clientLatencies.length;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        Arrays.sort(latencies);
+        System.out.printf("profiles=%s clients=%d requests=%d elapsed=%d ms throughput=%.0f req/s%n",
+            String.join(",", environment.getActiveProfiles()), CLIENTS, latencies.length, elapsedMillis,
+            latencies.length * 1000.0 / Math.max(elapsedMillis, 1));
+        System.out.printf("latency: p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+            percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private String tokenForNewUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail("bench-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user = userRepository.save(user);
+
+        for (int i = 0; i < 5; i++) {
+            Account account = new Account();
+            account.setName("Account " + i);
+            account.setType(Account.AccountType.CHECKING);
+            account.setUser(user);
+            accountRepository.save(account);
+        }
+
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        return jwtTokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static void send(HttpClient client, URI uri, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,53 @@
+package com.financetracker.exception;
+
+import com.financetracker.dto.MessageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Client-facing messages are passed through; constraint and unexpected failures are not.
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void badRequestKeepsItsMessage() {
+        ResponseEntity<MessageResponse> response =
+            handler.handleBadRequest(new BadRequestException("Page size must be positive"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Page size must be positive");
+    }
+
+    @Test
+    void integrityViolationIsAConflictWithoutTheConstraint() {
+        ResponseEntity<MessageResponse> response = handler.handleConflict(
+            new DataIntegrityViolationException("Duplicate entry 'a@example.com' for key 'users.UK_email'"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).doesNotContain("Duplicate", "UK_email");
+    }
+
+    @Test
+    void unexpectedExceptionIsAServerErrorWithoutItsMessage() {
+        ResponseEntity<MessageResponse> response =
+            handler.handleRuntime(new IllegalStateException("Connection to db-primary:3306 refused"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).isEqualTo("Internal server error");
+    }
+
+    @Test
+    void frameworkExceptionKeepsItsStatus() {
+        ResponseEntity<MessageResponse> response =
+            handler.handleRuntime(new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+    }
+}
@@ -0,0 +1,74 @@
+package com.financetracker.security;
+
+import com.financetracker.model.User;
+import com.financetracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In claims-only mode a token's authorities follow the stored role, not the role it
+ * was issued with.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "jwt.claims-only-auth=true")
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void roleChangeAppliesToTokensAlreadyIssued() throws Exception {
+        User user = new User();
+        user.setName("Test");
+        user.setEmail("filter-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+        user.setPassword("secret");
+        user.setRole(User.Role.ADMIN);
+        user = userRepository.save(user);
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        String token = tokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        assertThat(authenticate(token).getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_ADMIN");
+
+        user.setRole(User.Role.USER);
+        userRepository.save(user);
+
+        assertThat(authenticate(token).getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
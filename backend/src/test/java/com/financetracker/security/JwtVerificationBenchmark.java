@@ -0,0 +1,82 @@
+package com.financetracker.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request cost of token verification: the old path (key and parser rebuilt, token
+ * parsed twice), a single verification, and a verified-token cache hit.
+ *
+ * <p>mvn -Pbenchmark test -Dtest=JwtVerificationBenchmark -Dbenchmark.tokens=20000
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final int TOKENS = Integer.getInteger("benchmark.tokens", 20_000);
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+
+    @Test
+    void reportsVerificationCostPerRequest() {
+        JwtTokenProvider provider = provider();
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            AuthenticatedUser user = new AuthenticatedUser((long) i, "user" + i + "@example.com", "", "USER", 0, true);
+            tokens.add(provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())));
+        }
+
+        // Warm up the JIT on a separate provider so the measured caches start empty
+        JwtTokenProvider warmUp = provider();
+        for (String token : tokens) {
+            warmUp.parseToken(token);
+            rebuildAndParseTwice(token);
+        }
+
+        long rebuiltNanos = time(tokens, JwtVerificationBenchmark::rebuildAndParseTwice);
+        long verifiedNanos = time(tokens, provider::parseToken);
+        long cachedNanos = time(tokens, provider::parseToken);
+
+        System.out.printf("tokens=%d%n", TOKENS);
+        System.out.printf("rebuilt key, parsed twice: %d ns/request%n", rebuiltNanos / TOKENS);
+        System.out.printf("parsed once:               %d ns/request%n", verifiedNanos / TOKENS);
+        System.out.printf("verified-token cache hit:  %d ns/request%n", cachedNanos / TOKENS);
+
+        assertThat(cachedNanos).isLessThan(verifiedNanos);
+    }
+
+    private static JwtTokenProvider provider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheSize", (long) TOKENS);
+        ReflectionTestUtils.setField(provider, "meterRegistry", new SimpleMeterRegistry());
+        provider.init();
+        return provider;
+    }
+
+    // What validateToken followed by getEmailFromToken used to do on every request
+    private static Claims rebuildAndParseTwice(String token) {
+        Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseClaimsJws(token).getBody();
+    }
+
+    private static long time(List<String> tokens, Function<String, Claims> verify) {
+        long started = System.nanoTime();
+        for (String token : tokens) {
+            assertThat(verify.apply(token)).isNotNull();
+        }
+        return System.nanoTime() - started;
+    }
+}
@@ -0,0 +1,55 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.LoginRequest;
+import com.financetracker.security.PasswordHashingService;
+import com.financetracker.security.UserCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Login checks the password hash stored in the database, whatever the user cache holds.
+ */
+class AuthServiceTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loginUsesThePasswordChangedBehindACachedUser() {
+        setStoredPassword("old-password");
+        assertThat(userCache.getByEmail(user.getEmail()).getPassword()).isNull();
+
+        // As on another instance, so this instance's cached copy is not evicted
+        setStoredPassword("new-password");
+
+        assertThatThrownBy(() -> authService.login(login("old-password")))
+            .isInstanceOf(BadCredentialsException.class);
+        assertThat(authService.login(login("new-password")).getId()).isEqualTo(user.getId());
+    }
+
+    private void setStoredPassword(String password) {
+        jdbcTemplate.update("UPDATE users SET password = ? WHERE id = ?",
+            passwordHashingService.encode(password), user.getId());
+    }
+
+    private LoginRequest login(String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(password);
+        return request;
+    }
+}
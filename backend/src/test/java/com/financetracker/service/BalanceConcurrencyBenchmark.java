@@ -0,0 +1,88 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.TransactionRequest;
+import com.financetracker.security.AuthenticatedUser;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many threads post to one account at once; with in-database increments the final
+ * balance reflects every write. Prints the write throughput reached.
+ *
+ * <p>mvn -Pbenchmark test -Dtest=BalanceConcurrencyBenchmark -Dbenchmark.threads=16 -Dbenchmark.writes-per-thread=100
+ */
+@Tag("benchmark")
+class BalanceConcurrencyBenchmark extends ServiceIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int WRITES_PER_THREAD = Integer.getInteger("benchmark.writes-per-thread", 50);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Test
+    void concurrentWritesLoseNoBalanceUpdates() throws Exception {
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            writers.add(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+                try {
+                    for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                        // Income and expense interleave so both signs race on the same row
+                        transactionService.createTransaction(request(i % 2 == 0 ? "INCOME" : "EXPENSE",
+                            i % 2 == 0 ? "3.00" : "1.00"));
+                    }
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            });
+        }
+
+        long started = System.nanoTime();
+        try {
+            for (Future<Void> writer : executor.invokeAll(writers)) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        int writes = THREADS * WRITES_PER_THREAD;
+        System.out.printf("threads=%d writes=%d elapsed=%d ms throughput=%.0f writes/s%n",
+            THREADS, writes, elapsedMillis, writes * 1000.0 / Math.max(elapsedMillis, 1));
+
+        BigDecimal expected = new BigDecimal("3.00").multiply(BigDecimal.valueOf(THREADS * ((WRITES_PER_THREAD + 1) / 2)))
+            .subtract(new BigDecimal("1.00").multiply(BigDecimal.valueOf(THREADS * (WRITES_PER_THREAD / 2))));
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getBalance())
+            .isEqualByComparingTo(expected);
+    }
+
+    private TransactionRequest request(String type, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(account.getId());
+        request.setType(type);
+        request.setCategory("Stress " + suffix);
+        request.setAmount(new BigDecimal(amount));
+        request.setTransactionDate(LocalDate.of(2024, 3, 10));
+        return request;
+    }
+}
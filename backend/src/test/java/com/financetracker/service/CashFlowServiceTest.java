@@ -0,0 +1,77 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.CashFlowResponse;
+import com.financetracker.dto.TransactionRequest;
+import com.financetracker.dto.TransactionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cached closed periods stay valid across writes to other months and are recomputed
+ * after writes to their own, and the opening balance matches everything dated earlier.
+ */
+class CashFlowServiceTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private CashFlowService cashFlowService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesRecomputeOnlyTheMonthsTheyTouch() {
+        TransactionResponse january = transactionService.createTransaction(
+            request("INCOME", "1000.00", LocalDate.of(2024, 1, 5)));
+        TransactionResponse march = transactionService.createTransaction(
+            request("EXPENSE", "40.00", LocalDate.of(2024, 3, 10)));
+        cashFlowService.getCashFlow(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), "month");
+
+        // Behind the service's back, so only a recomputed January would show it
+        jdbcTemplate.update("UPDATE transactions SET amount = 2000.00 WHERE id = ?", january.getId());
+        transactionService.updateTransaction(march.getId(), request("EXPENSE", "60.00", LocalDate.of(2024, 3, 12)));
+        CashFlowResponse response = cashFlowService.getCashFlow(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), "month");
+
+        assertThat(response.getPoints()).extracting(point -> point.getNet().toPlainString())
+            .containsExactly("1000.00", "0", "-60.00");
+    }
+
+    @Test
+    void backdatedWriteShowsUpInCachedWeeksAndTheOpeningBalance() {
+        transactionService.createTransaction(request("INCOME", "500.00", LocalDate.of(2024, 2, 28)));
+        transactionService.createTransaction(request("EXPENSE", "20.00", LocalDate.of(2024, 3, 4)));
+        cashFlowService.getCashFlow(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), "week");
+
+        transactionService.createTransaction(request("EXPENSE", "30.00", LocalDate.of(2024, 2, 27)));
+        transactionService.createTransaction(request("EXPENSE", "5.00", LocalDate.of(2024, 3, 2)));
+        CashFlowResponse weeks = cashFlowService.getCashFlow(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), "week");
+
+        // The first week starts on Monday 26 February, so it spans both months
+        assertThat(weeks.getStartDate()).isEqualTo(LocalDate.of(2024, 2, 26));
+        assertThat(weeks.getOpeningBalance()).isEqualByComparingTo("0");
+        assertThat(weeks.getPoints().get(0).getNet()).isEqualByComparingTo("465.00");
+        assertThat(weeks.getPoints().get(1).getNet()).isEqualByComparingTo("-20.00");
+
+        CashFlowResponse days = cashFlowService.getCashFlow(LocalDate.of(2024, 3, 3), LocalDate.of(2024, 3, 5), "day");
+        assertThat(days.getOpeningBalance()).isEqualByComparingTo("465.00");
+        assertThat(days.getPoints().get(2).getRunningBalance()).isEqualByComparingTo("445.00");
+    }
+
+    private TransactionRequest request(String type, String amount, LocalDate date) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(account.getId());
+        request.setType(type);
+        request.setCategory("Cash flow " + suffix);
+        request.setAmount(new BigDecimal(amount));
+        request.setTransactionDate(date);
+        return request;
+    }
+}
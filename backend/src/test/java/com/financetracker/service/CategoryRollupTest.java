@@ -0,0 +1,229 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.BudgetRequest;
+import com.financetracker.dto.ReportResponse;
+import com.financetracker.dto.TransactionRequest;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.model.Account;
+import com.financetracker.model.CategoryMonthlyTotal;
+import com.financetracker.model.Transaction;
+import com.financetracker.repository.CategoryMonthlyTotalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The monthly category rollup is kept in step with every transaction write path, and
+ * reports read it for whole months with the same result as scanning transactions.
+ */
+class CategoryRollupTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CategoryMonthlyTotalRepository categoryMonthlyTotalRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void createAddsToTheRollupExceptForTransfers() {
+        transactionService.createTransaction(request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+        transactionService.createTransaction(request("EXPENSE", "Food", "15.00", LocalDate.of(2024, 3, 20)));
+        transactionService.createTransaction(request("INCOME", "Salary", "1000.00", LocalDate.of(2024, 3, 1)));
+        transactionService.createTransaction(request("TRANSFER", "Savings", "200.00", LocalDate.of(2024, 3, 5)));
+
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "40.00", 2);
+        assertRollup(Transaction.TransactionType.INCOME, "Salary", 2024, 3, "1000.00", 1);
+        assertNoRollup(Transaction.TransactionType.TRANSFER, "Savings", 2024, 3);
+    }
+
+    @Test
+    void updateMovesTheTransactionToItsNewRollupRow() {
+        Account other = newAccount("Wallet");
+        TransactionResponse created = transactionService.createTransaction(
+            request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+
+        TransactionRequest update = request("INCOME", "Refunds", "30.00", LocalDate.of(2024, 4, 2));
+        update.setAccountId(other.getId());
+        transactionService.updateTransaction(created.getId(), update);
+
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "0.00", 0);
+        assertRollup(Transaction.TransactionType.INCOME, "Refunds", 2024, 4, "30.00", 1);
+    }
+
+    @Test
+    void updateToATransferLeavesTheRollup() {
+        TransactionResponse created = transactionService.createTransaction(
+            request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+
+        transactionService.updateTransaction(created.getId(),
+            request("TRANSFER", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "0.00", 0);
+        assertNoRollup(Transaction.TransactionType.TRANSFER, "Food", 2024, 3);
+    }
+
+    @Test
+    void deleteTakesTheTransactionOutOfTheRollup() {
+        TransactionResponse kept = transactionService.createTransaction(
+            request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+        TransactionResponse deleted = transactionService.createTransaction(
+            request("EXPENSE", "Food", "10.00", LocalDate.of(2024, 3, 11)));
+
+        transactionService.deleteTransaction(deleted.getId());
+
+        assertThat(kept.getId()).isNotEqualTo(deleted.getId());
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "25.00", 1);
+    }
+
+    @Test
+    void accountDeleteTakesItsTransactionsOutOfTheRollupAndBudgets() {
+        Account wallet = newAccount("Wallet");
+        BudgetRequest budget = new BudgetRequest();
+        budget.setCategory(category("Food"));
+        budget.setAmount(new BigDecimal("100.00"));
+        budget.setMonth("2024-03");
+        Long budgetId = budgetService.createBudget(budget).getId();
+
+        transactionService.createTransaction(request("EXPENSE", "Food", "5.00", LocalDate.of(2024, 3, 2)));
+        for (TransactionRequest request : List.of(
+                request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)),
+                request("EXPENSE", "Food", "10.00", LocalDate.of(2024, 3, 11)),
+                request("INCOME", "Salary", "500.00", LocalDate.of(2024, 3, 1)),
+                request("TRANSFER", "Savings", "50.00", LocalDate.of(2024, 3, 3)))) {
+            request.setAccountId(wallet.getId());
+            transactionService.createTransaction(request);
+        }
+
+        accountService.deleteAccount(wallet.getId());
+
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "5.00", 1);
+        assertRollup(Transaction.TransactionType.INCOME, "Salary", 2024, 3, "0.00", 0);
+        assertThat(budgetService.getBudgetById(budgetId).getSpent()).isEqualByComparingTo("5.00");
+        ReportResponse rollup = transactionService.getReport(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        ReportResponse scan = transactionService.getReport(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31));
+        assertThat(rollup.getTotalExpenses()).isEqualByComparingTo(scan.getTotalExpenses());
+        assertThat(rollup.getTotalIncome()).isEqualByComparingTo(scan.getTotalIncome());
+        assertThat(rollup.getTransactionCount()).isEqualTo(scan.getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void batchAndImportAddCoalescedDeltas() throws Exception {
+        transactionService.createTransactions(List.of(
+            request("EXPENSE", "Food", "5.00", LocalDate.of(2024, 3, 1)),
+            request("EXPENSE", "Food", "7.50", LocalDate.of(2024, 3, 2)),
+            request("EXPENSE", "Food", "1.00", LocalDate.of(2024, 4, 1)),
+            request("TRANSFER", "Savings", "50.00", LocalDate.of(2024, 3, 3))));
+
+        String csv = "transactionDate,type,category,amount\n"
+            + "2024-03-15,EXPENSE," + category("Food") + ",2.50\n"
+            + "2024-03-16,INCOME," + category("Salary") + ",900\n"
+            + "2024-03-17,TRANSFER," + category("Savings") + ",25\n";
+        transactionImportService.importCsv(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), account.getId());
+
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 3, "15.00", 3);
+        assertRollup(Transaction.TransactionType.EXPENSE, "Food", 2024, 4, "1.00", 1);
+        assertRollup(Transaction.TransactionType.INCOME, "Salary", 2024, 3, "900.00", 1);
+        assertNoRollup(Transaction.TransactionType.TRANSFER, "Savings", 2024, 3);
+    }
+
+    @Test
+    void newBudgetStartsFromTheMonthsSpending() {
+        transactionService.createTransaction(request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+        transactionService.createTransaction(request("EXPENSE", "Food", "15.00", LocalDate.of(2024, 3, 20)));
+        transactionService.createTransaction(request("INCOME", "Food", "5.00", LocalDate.of(2024, 3, 21)));
+        transactionService.createTransaction(request("EXPENSE", "Food", "99.00", LocalDate.of(2024, 4, 1)));
+
+        BudgetRequest budget = new BudgetRequest();
+        budget.setCategory(category("Food"));
+        budget.setAmount(new BigDecimal("100.00"));
+        budget.setMonth("2024-03");
+
+        assertThat(budgetService.createBudget(budget).getSpent()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void wholeMonthReportsReadTheRollupAndOtherRangesScan() {
+        transactionService.createTransaction(request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+        // A rollup that disagrees with the transactions shows which path answered
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            categoryMonthlyTotalRepository.addDelta(user.getId(), "EXPENSE", category("Food"), 2024, 3,
+                new BigDecimal("100.00"), 0));
+
+        assertThat(transactionService.getReport(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31))
+            .getTotalExpenses()).isEqualByComparingTo("125.00");
+        assertThat(transactionService.getReport(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 30))
+            .getTotalExpenses()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void rollupAndScanReportsAgreeOnWholeMonths() {
+        transactionService.createTransaction(request("EXPENSE", "Food", "25.00", LocalDate.of(2024, 3, 10)));
+        transactionService.createTransaction(request("EXPENSE", "Rent", "800.00", LocalDate.of(2024, 3, 1)));
+        transactionService.createTransaction(request("EXPENSE", "Food", "12.25", LocalDate.of(2024, 4, 30)));
+        transactionService.createTransaction(request("INCOME", "Salary", "1000.00", LocalDate.of(2024, 4, 1)));
+        transactionService.createTransaction(request("TRANSFER", "Savings", "300.00", LocalDate.of(2024, 3, 15)));
+
+        // March and April, once from the rollup and once by scanning a range that starts
+        // on a day with no transactions
+        ReportResponse rollup = transactionService.getReport(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30));
+        ReportResponse scan = transactionService.getReport(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 4, 30));
+
+        assertThat(rollup.getTransactionCount()).isEqualTo(4);
+        assertThat(rollup)
+            .usingRecursiveComparison()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .ignoringFields("startDate", "endDate")
+            .isEqualTo(scan);
+    }
+
+    private TransactionRequest request(String type, String category, String amount, LocalDate date) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(account.getId());
+        request.setType(type);
+        request.setCategory(category(category));
+        request.setAmount(new BigDecimal(amount));
+        request.setTransactionDate(date);
+        return request;
+    }
+
+    private String category(String name) {
+        return name + " " + suffix;
+    }
+
+    private void assertRollup(Transaction.TransactionType type, String category, int year, int month,
+                              String total, long count) {
+        CategoryMonthlyTotal row = categoryMonthlyTotalRepository
+            .findByUserIdAndTypeAndCategoryAndYearAndMonth(user.getId(), type, category(category), year, month)
+            .orElseThrow(() -> new AssertionError("No rollup row for " + type + " " + category));
+        assertThat(row.getTotal()).isEqualByComparingTo(total);
+        assertThat(row.getCount()).isEqualTo(count);
+    }
+
+    private void assertNoRollup(Transaction.TransactionType type, String category, int year, int month) {
+        assertThat(categoryMonthlyTotalRepository
+            .findByUserIdAndTypeAndCategoryAndYearAndMonth(user.getId(), type, category(category), year, month))
+            .isEmpty();
+    }
+}
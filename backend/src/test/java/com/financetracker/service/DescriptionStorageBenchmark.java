@@ -0,0 +1,160 @@
+package com.financetracker.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Storage and scan cost of inline transaction descriptions against the deduplicated
+ * dictionary layout, on a synthetic dataset in a file-backed H2 database. The numbers
+ * show the direction of the change only; MySQL page and row formats differ.
+ *
+ * <p>mvn -Pbenchmark test -Dtest=DescriptionStorageBenchmark -Dbenchmark.rows=10000000
+ */
+@Tag("benchmark")
+class DescriptionStorageBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int DISTINCT_DESCRIPTIONS = Integer.getInteger("benchmark.distinct-descriptions", 5_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reportsStorageAndScanCost() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + directory.resolve("benchmark") + ";MODE=MySQL;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "")) {
+            createTables(connection);
+            load(connection);
+
+            long inlineBytes = diskSpace(connection, "transactions_inline");
+            long referenceBytes = diskSpace(connection, "transactions_ref")
+                + diskSpace(connection, "transaction_descriptions");
+            long inlineScanMillis = scan(connection,
+                "SELECT COUNT(*), SUM(amount) FROM transactions_inline WHERE transaction_date >= '2024-01-01'");
+            long referenceScanMillis = scan(connection,
+                "SELECT COUNT(*), SUM(amount) FROM transactions_ref WHERE transaction_date >= '2024-01-01'");
+            long inlineSearchMillis = scan(connection,
+                "SELECT COUNT(*) FROM transactions_inline WHERE description LIKE '%store 42%'");
+            long referenceSearchMillis = scan(connection,
+                "SELECT COUNT(*) FROM transactions_ref t JOIN transaction_descriptions d ON d.id = t.description_id "
+                    + "WHERE d.description LIKE '%store 42%'");
+
+            System.out.printf("rows=%d distinct=%d%n", ROWS, DISTINCT_DESCRIPTIONS);
+            System.out.printf("storage: inline=%d bytes, dictionary=%d bytes (%.1f%%)%n",
+                inlineBytes, referenceBytes, 100.0 * referenceBytes / inlineBytes);
+            System.out.printf("date scan: inline=%d ms, dictionary=%d ms%n", inlineScanMillis, referenceScanMillis);
+            System.out.printf("text search: inline=%d ms, dictionary=%d ms%n", inlineSearchMillis, referenceSearchMillis);
+
+            assertThat(referenceBytes).isLessThan(inlineBytes);
+        }
+    }
+
+    private void createTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transactions_inline (id BIGINT PRIMARY KEY, account_id BIGINT NOT NULL, "
+                + "amount DECIMAL(15,2) NOT NULL, transaction_date DATE NOT NULL, description VARCHAR(255))");
+            statement.execute("CREATE TABLE transaction_descriptions (id BIGINT PRIMARY KEY, "
+                + "hash BINARY(32) NOT NULL UNIQUE, description VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE TABLE transactions_ref (id BIGINT PRIMARY KEY, account_id BIGINT NOT NULL, "
+                + "amount DECIMAL(15,2) NOT NULL, transaction_date DATE NOT NULL, description_id BIGINT)");
+        }
+    }
+
+    private void load(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO transaction_descriptions VALUES (?, ?, ?)")) {
+            for (int i = 0; i < DISTINCT_DESCRIPTIONS; i++) {
+                String text = description(i);
+                insert.setLong(1, i + 1);
+                insert.setBytes(2, DescriptionDictionary.hash(text));
+                insert.setString(3, text);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.of(2023, 1, 1);
+        try (PreparedStatement inline = connection.prepareStatement(
+                 "INSERT INTO transactions_inline VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement reference = connection.prepareStatement(
+                 "INSERT INTO transactions_ref VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                // Skewed towards a few recurring merchants, as real statements are
+                int descriptionIndex = (int) Math.floor(Math.pow(random.nextDouble(), 3) * DISTINCT_DESCRIPTIONS);
+                long accountId = 1 + random.nextInt(1_000);
+                BigDecimal amount = BigDecimal.valueOf(random.nextInt(100_000), 2);
+                java.sql.Date date = java.sql.Date.valueOf(firstDay.plusDays(random.nextInt(730)));
+
+                inline.setLong(1, i);
+                inline.setLong(2, accountId);
+                inline.setBigDecimal(3, amount);
+                inline.setDate(4, date);
+                inline.setString(5, description(descriptionIndex));
+                inline.addBatch();
+
+                reference.setLong(1, i);
+                reference.setLong(2, accountId);
+                reference.setBigDecimal(3, amount);
+                reference.setDate(4, date);
+                reference.setLong(5, descriptionIndex + 1);
+                reference.addBatch();
+
+                if (i % 10_000 == 0) {
+                    inline.executeBatch();
+                    reference.executeBatch();
+                    connection.commit();
+                }
+            }
+            inline.executeBatch();
+            reference.executeBatch();
+            connection.commit();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+        }
+    }
+
+    private static String description(int index) {
+        return "POS PURCHASE CARD 4111 store " + index + " MAIN STREET BRANCH REF " + (index * 7919 % 100_000);
+    }
+
+    private static long diskSpace(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT DISK_SPACE_USED('" + table + "')")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    /**
+     * Best of three runs, so the first run's cache warm-up is not counted.
+     */
+    private static long scan(Connection connection, String sql) throws SQLException {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long started = System.nanoTime();
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(sql)) {
+                result.next();
+            }
+            best = Math.min(best, (System.nanoTime() - started) / 1_000_000);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,98 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.ImportResult;
+import com.financetracker.dto.TransactionRequest;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.repository.CategoryRepository;
+import com.financetracker.repository.TransactionDescriptionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Categories and descriptions are created in the writing transaction: once per distinct
+ * value, usable by that transaction's rows, and gone again if it rolls back.
+ */
+class DictionaryResolutionTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionDescriptionRepository transactionDescriptionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void importCreatesEachNewValueOnce() throws Exception {
+        long descriptionsBefore = transactionDescriptionRepository.count();
+        String csv = "transactionDate,type,category,amount,description\n"
+            + "2024-03-01,EXPENSE,Coffee " + suffix + ",3.50,Cafe " + suffix + "\n"
+            + "2024-03-02,EXPENSE,Coffee " + suffix + ",4.00,Cafe " + suffix + "\n"
+            + "2024-03-03,INCOME,Salary " + suffix + ",1000,Payroll " + suffix + "\n"
+            + "2024-03-04,EXPENSE,Coffee " + suffix + ",2.75,\n";
+
+        ImportResult result = transactionImportService.importCsv(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), account.getId());
+
+        assertThat(result.getRowsImported()).isEqualTo(4);
+        assertThat(categoryRepository.findByName("Coffee " + suffix)).isPresent();
+        assertThat(categoryRepository.findByName("Salary " + suffix)).isPresent();
+        assertThat(transactionDescriptionRepository.count()).isEqualTo(descriptionsBefore + 2);
+        assertThat(transactionService.getTransactionsByAccount(account.getId()))
+            .extracting(TransactionResponse::getCategory, TransactionResponse::getDescription)
+            .containsExactlyInAnyOrder(
+                tuple("Coffee " + suffix, "Cafe " + suffix),
+                tuple("Coffee " + suffix, "Cafe " + suffix),
+                tuple("Salary " + suffix, "Payroll " + suffix),
+                tuple("Coffee " + suffix, null));
+    }
+
+    @Test
+    void rolledBackWriteLeavesNoValuesBehind() {
+        long descriptionsBefore = transactionDescriptionRepository.count();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            transactionService.createTransactions(List.of(request("Gifts " + suffix, "Present " + suffix)));
+            assertThat(categoryDictionary.findId("Gifts " + suffix)).isNotNull();
+            status.setRollbackOnly();
+        });
+
+        assertThat(categoryRepository.findByName("Gifts " + suffix)).isEmpty();
+        assertThat(categoryDictionary.findId("Gifts " + suffix)).isNull();
+        assertThat(transactionDescriptionRepository.count()).isEqualTo(descriptionsBefore);
+        assertThat(transactionService.getTransactionsByAccount(account.getId())).isEmpty();
+    }
+
+    private TransactionRequest request(String category, String description) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(account.getId());
+        request.setType("EXPENSE");
+        request.setCategory(category);
+        request.setAmount(new BigDecimal("25.00"));
+        request.setDescription(description);
+        request.setTransactionDate(LocalDate.of(2024, 3, 10));
+        return request;
+    }
+}
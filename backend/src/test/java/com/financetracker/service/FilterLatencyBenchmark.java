@@ -0,0 +1,167 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.TransactionFilter;
+import com.financetracker.model.Account;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionDescription;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of common transaction filter shapes for one user with many rows, on MySQL with
+ * the schema and indexes built by the Flyway migrations. Prints median and p99 per shape.
+ *
+ * <p>mvn -Pbenchmark test -Dtest=FilterLatencyBenchmark -Dbenchmark.filter-rows=1000000
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+    "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver"
+})
+class FilterLatencyBenchmark extends ServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final int ROWS = Integer.getInteger("benchmark.filter-rows", 200_000);
+    private static final int ACCOUNTS = 10;
+    private static final int RUNS = 50;
+    // Above anything the sequence hands out, so the loaded rows never collide with it
+    private static final long FIRST_ID = 1_000_000_000L;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private DescriptionDictionary descriptionDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void reportsLatencyPerFilterShape() {
+        List<Long> accountIds = new ArrayList<>();
+        accountIds.add(account.getId());
+        for (int i = 1; i < ACCOUNTS; i++) {
+            accountIds.add(newAccount("Account " + i).getId());
+        }
+        String[] categories = {"Groceries " + suffix, "Rent " + suffix, "Travel " + suffix, "Salary " + suffix};
+        load(accountIds, categories);
+
+        Map<String, TransactionFilter> shapes = new LinkedHashMap<>();
+        shapes.put("no criteria", new TransactionFilter());
+        TransactionFilter dateRange = new TransactionFilter();
+        dateRange.setStartDate(LocalDate.of(2024, 3, 1));
+        dateRange.setEndDate(LocalDate.of(2024, 3, 31));
+        shapes.put("date range", dateRange);
+        TransactionFilter categorySet = new TransactionFilter();
+        categorySet.setCategory(List.of(categories[1], categories[2]));
+        shapes.put("category set", categorySet);
+        TransactionFilter typeAndAmount = new TransactionFilter();
+        typeAndAmount.setType(List.of("EXPENSE"));
+        typeAndAmount.setMinAmount(new BigDecimal("900.00"));
+        shapes.put("type + min amount", typeAndAmount);
+        TransactionFilter accountsAndDate = new TransactionFilter();
+        accountsAndDate.setAccountId(accountIds.subList(0, 2));
+        accountsAndDate.setStartDate(LocalDate.of(2024, 1, 1));
+        shapes.put("accounts + date", accountsAndDate);
+        TransactionFilter description = new TransactionFilter();
+        description.setDescription("store 7");
+        shapes.put("description", description);
+
+        System.out.printf("rows=%d accounts=%d runs=%d%n", ROWS, ACCOUNTS, RUNS);
+        for (Map.Entry<String, TransactionFilter> shape : shapes.entrySet()) {
+            long[] latencies = new long[RUNS];
+            for (int run = -5; run < RUNS; run++) {
+                long started = System.nanoTime();
+                int size = transactionService.filterTransactions(shape.getValue(), null, 50).getItems().size();
+                if (run >= 0) {
+                    latencies[run] = System.nanoTime() - started;
+                }
+                assertThat(size).isPositive();
+            }
+            Arrays.sort(latencies);
+            System.out.printf("%-18s p50=%.1f ms p99=%.1f ms%n", shape.getKey(),
+                latencies[RUNS / 2] / 1e6, latencies[(int) Math.ceil(0.99 * RUNS) - 1] / 1e6);
+        }
+    }
+
+    private void load(List<Long> accountIds, String[] categories) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Map<String, Category.CategoryType> types = new LinkedHashMap<>();
+        for (String category : categories) {
+            types.put(category, category.startsWith("Salary") ? Category.CategoryType.INCOME : Category.CategoryType.EXPENSE);
+        }
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            texts.add("POS PURCHASE store " + i + " " + suffix);
+        }
+        List<TransactionDescription> descriptions = transaction.execute(status -> {
+            categoryDictionary.resolveAll(types);
+            Map<String, TransactionDescription> entries = descriptionDictionary.entriesFor(texts);
+            return texts.stream().map(entries::get).toList();
+        });
+        long[] categoryIds = Arrays.stream(categories).mapToLong(categoryDictionary::findId).toArray();
+
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.of(2023, 1, 1);
+        long nextId = 1 + jdbcTemplate.queryForObject(
+            "SELECT GREATEST(COALESCE(MAX(id), 0), ?) FROM transactions", Long.class, FIRST_ID);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            int category = random.nextInt(categoryIds.length);
+            batch.add(new Object[] {
+                nextId++,
+                category == 3 ? "INCOME" : "EXPENSE",
+                BigDecimal.valueOf(random.nextInt(100_000), 2),
+                categoryIds[category],
+                descriptions.get(random.nextInt(descriptions.size())).getId(),
+                Date.valueOf(firstDay.plusDays(random.nextInt(730))),
+                accountIds.get(random.nextInt(accountIds.size()))
+            });
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE TABLE transactions");
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO transactions "
+            + "(id, type, amount, category_id, description_id, transaction_date, account_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6))", batch);
+        batch.clear();
+    }
+}
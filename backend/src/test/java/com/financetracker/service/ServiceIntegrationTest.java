@@ -0,0 +1,63 @@
+package com.financetracker.service;
+
+import com.financetracker.model.Account;
+import com.financetracker.model.User;
+import com.financetracker.repository.AccountRepository;
+import com.financetracker.repository.UserRepository;
+import com.financetracker.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+/**
+ * Runs service tests against the H2 test profile, each signed in as a fresh user with
+ * one account. Tests share the database, so names they create carry {@link #suffix}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class ServiceIntegrationTest {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected AccountRepository accountRepository;
+
+    protected User user;
+    protected Account account;
+    protected String suffix;
+
+    @BeforeEach
+    void signInAsNewUser() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Test");
+        user.setEmail("user-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user = userRepository.save(user);
+        account = newAccount("Checking");
+
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    protected Account newAccount(String name) {
+        Account created = new Account();
+        created.setName(name);
+        created.setType(Account.AccountType.CHECKING);
+        created.setUser(user);
+        return accountRepository.save(created);
+    }
+}
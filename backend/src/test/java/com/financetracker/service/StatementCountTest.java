@@ -0,0 +1,99 @@
+package com.financetracker.service;
+
+import com.financetracker.dto.TransactionRequest;
+import com.financetracker.dto.TransactionResponse;
+import com.financetracker.model.Account;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Number of SQL statements each write and listing issues, read from Hibernate's
+ * statistics. Each write is measured after a warm-up write with the same category and
+ * description, so the dictionaries are already loaded.
+ */
+class StatementCountTest extends ServiceIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionService.createTransaction(request(account, "10.00"));
+    }
+
+    @Test
+    void createTransaction() {
+        // account, insert, balance, account refresh, budget spent, rollup, data version
+        assertThat(statementsFor(() -> transactionService.createTransaction(request(account, "25.00"))))
+            .isEqualTo(7);
+    }
+
+    @Test
+    void updateTransaction() {
+        TransactionResponse created = transactionService.createTransaction(request(account, "25.00"));
+        // transaction with account, budget and rollup reversal, new account, net balance,
+        // account refresh, budget spent, rollup, transaction update, data version
+        assertThat(statementsFor(() -> transactionService.updateTransaction(created.getId(), request(account, "30.00"))))
+            .isEqualTo(10);
+    }
+
+    @Test
+    void deleteTransaction() {
+        TransactionResponse created = transactionService.createTransaction(request(account, "25.00"));
+        // transaction with account, balance, budget spent, rollup, delete, data version
+        assertThat(statementsFor(() -> transactionService.deleteTransaction(created.getId())))
+            .isEqualTo(6);
+    }
+
+    @Test
+    void listingDoesNotGrowWithTheResult() {
+        assertThat(statementsFor(() -> transactionService.getAllTransactionsForCurrentUser())).isEqualTo(1);
+
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            accounts.add(newAccount("Account " + i));
+        }
+        for (int i = 0; i < 20; i++) {
+            transactionService.createTransaction(request(accounts.get(i % accounts.size()), "1.00"));
+        }
+
+        List<TransactionResponse> listed = new ArrayList<>();
+        assertThat(statementsFor(() -> listed.addAll(transactionService.getAllTransactionsForCurrentUser())))
+            .isEqualTo(1);
+        assertThat(listed).hasSize(21);
+    }
+
+    private long statementsFor(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private TransactionRequest request(Account target, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(target.getId());
+        request.setType("EXPENSE");
+        request.setCategory("Groceries " + suffix);
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription("Corner shop " + suffix);
+        request.setTransactionDate(LocalDate.of(2024, 3, 10));
+        return request;
+    }
+}
@@ -1,14 +1,13 @@
 import { useState, useEffect } from 'react'
 import Navbar from '../components/Navbar'
-import accountService from '../services/accountService'
-import transactionService from '../services/transactionService'
-import budgetService from '../services/budgetService'
+import dashboardService from '../services/dashboardService'
 
 function Dashboard() {
   const [accounts, setAccounts] = useState([])
   const [transactions, setTransactions] = useState([])
   const [budgets, setBudgets] = useState([])
   const [totalBalance, setTotalBalance] = useState(0)
+  const [missingRates, setMissingRates] = useState([])
   const [loading, setLoading] = useState(true)
 
   useEffect(() => {
@@ -17,17 +16,15 @@ function Dashboard() {
 
   const loadDashboardData = async () => {
     try {
-      const [accountsData, transactionsData, budgetsData, balanceData] = await Promise.all([
-        accountService.getAllAccounts(),
-        transactionService.getAllTransactions(),
-        budgetService.getCurrentMonthBudgets(),
-        accountService.getTotalBalance()
-      ])
+      const data = await dashboardService.getDashboard()
 
-      setAccounts(accountsData)
-      setTransactions(transactionsData.slice(0, 5)) // Show only 5 recent
-      setBudgets(budgetsData)
-      setTotalBalance(balanceData.totalBalance || 0)
+      // Sections that missed the server's time budget come back null
+      setAccounts(data.accounts || [])
+      setTransactions(data.recentTransactions || [])
+      setBudgets(data.currentMonthBudgets || [])
+      setTotalBalance(data.totalBalance || 0)
+      // Balances in these currencies have no exchange rate and are not in the total
+      setMissingRates(data.missingRates || [])
       setLoading(false)
     } catch (error) {
       console.error('Error loading dashboard:', error)
@@ -61,7 +58,9 @@ function Dashboard() {
           marginBottom: '30px'
         }}>
           <StatCard
-            title="Total Balance"
+            title={missingRates.length > 0
+              ? `Total Balance (excludes ${missingRates.join(', ')})`
+              : 'Total Balance'}
             value={`₹${totalBalance.toLocaleString()}`}
             color="#10b981"
           />
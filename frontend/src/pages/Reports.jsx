@@ -5,7 +5,7 @@ import budgetService from '../services/budgetService'
 import accountService from '../services/accountService'
 
 function Reports() {
-  const [transactions, setTransactions] = useState([])
+  const [report, setReport] = useState(null)
   const [budgets, setBudgets] = useState([])
   const [totalBalance, setTotalBalance] = useState(0)
   const [loading, setLoading] = useState(true)
@@ -15,14 +15,21 @@ function Reports() {
     loadReportData()
   }, [])
 
+  useEffect(() => {
+    if (!loading) {
+      loadReport()
+    }
+  }, [timeRange])
+
   const loadReportData = async () => {
     try {
-      const [transactionsData, budgetsData, balanceData] = await Promise.all([
-        transactionService.getAllTransactions(),
+      const { startDate, endDate } = getRangeDates()
+      const [reportData, budgetsData, balanceData] = await Promise.all([
+        transactionService.getReport(startDate, endDate),
         budgetService.getCurrentMonthBudgets(),
         accountService.getTotalBalance()
       ])
-      setTransactions(transactionsData)
+      setReport(reportData)
       setBudgets(budgetsData)
       setTotalBalance(balanceData.totalBalance || 0)
       setLoading(false)
@@ -32,78 +39,47 @@ function Reports() {
     }
   }
 
-  const filterTransactionsByRange = () => {
-    const now = new Date()
-    return transactions.filter(t => {
-      const transactionDate = new Date(t.transactionDate)
-      
-      switch (timeRange) {
-        case 'THIS_MONTH':
-          return transactionDate.getMonth() === now.getMonth() &&
-                 transactionDate.getFullYear() === now.getFullYear()
-        case 'LAST_MONTH':
-          const lastMonth = new Date(now.getFullYear(), now.getMonth() - 1, 1)
-          return transactionDate.getMonth() === lastMonth.getMonth() &&
-                 transactionDate.getFullYear() === lastMonth.getFullYear()
-        case 'LAST_3_MONTHS':
-          const threeMonthsAgo = new Date(now.getFullYear(), now.getMonth() - 3, now.getDate())
-          return transactionDate >= threeMonthsAgo
-        case 'THIS_YEAR':
-          return transactionDate.getFullYear() === now.getFullYear()
-        default:
-          return true
-      }
-    })
+  const loadReport = async () => {
+    try {
+      const { startDate, endDate } = getRangeDates()
+      setReport(await transactionService.getReport(startDate, endDate))
+    } catch (error) {
+      console.error('Error loading report:', error)
+    }
   }
 
-  const calculateStats = () => {
-    const filtered = filterTransactionsByRange()
-    const income = filtered
-      .filter(t => t.type === 'INCOME')
-      .reduce((sum, t) => sum + t.amount, 0)
-    const expenses = filtered
-      .filter(t => t.type === 'EXPENSE')
-      .reduce((sum, t) => sum + t.amount, 0)
-    
-    return { income, expenses, netIncome: income - expenses }
+  const formatDate = (date) => {
+    const month = String(date.getMonth() + 1).padStart(2, '0')
+    const day = String(date.getDate()).padStart(2, '0')
+    return `${date.getFullYear()}-${month}-${day}`
   }
 
-  const getCategoryBreakdown = () => {
-    const filtered = filterTransactionsByRange()
-    const categoryMap = {}
-    
-    filtered
-      .filter(t => t.type === 'EXPENSE')
-      .forEach(t => {
-        if (categoryMap[t.category]) {
-          categoryMap[t.category] += t.amount
-        } else {
-          categoryMap[t.category] = t.amount
+  const getRangeDates = () => {
+    const now = new Date()
+    switch (timeRange) {
+      case 'THIS_MONTH':
+        return {
+          startDate: formatDate(new Date(now.getFullYear(), now.getMonth(), 1)),
+          endDate: formatDate(new Date(now.getFullYear(), now.getMonth() + 1, 0))
         }
-      })
-    
-    return Object.entries(categoryMap)
-      .map(([category, amount]) => ({ category, amount }))
-      .sort((a, b) => b.amount - a.amount)
-  }
-
-  const getIncomeBreakdown = () => {
-    const filtered = filterTransactionsByRange()
-    const categoryMap = {}
-    
-    filtered
-      .filter(t => t.type === 'INCOME')
-      .forEach(t => {
-        if (categoryMap[t.category]) {
-          categoryMap[t.category] += t.amount
-        } else {
-          categoryMap[t.category] = t.amount
+      case 'LAST_MONTH':
+        return {
+          startDate: formatDate(new Date(now.getFullYear(), now.getMonth() - 1, 1)),
+          endDate: formatDate(new Date(now.getFullYear(), now.getMonth(), 0))
+        }
+      case 'LAST_3_MONTHS':
+        return {
+          startDate: formatDate(new Date(now.getFullYear(), now.getMonth() - 3, now.getDate())),
+          endDate: undefined
         }
-      })
-    
-    return Object.entries(categoryMap)
-      .map(([category, amount]) => ({ category, amount }))
-      .sort((a, b) => b.amount - a.amount)
+      case 'THIS_YEAR':
+        return {
+          startDate: formatDate(new Date(now.getFullYear(), 0, 1)),
+          endDate: formatDate(new Date(now.getFullYear(), 11, 31))
+        }
+      default:
+        return { startDate: undefined, endDate: undefined }
+    }
   }
 
   if (loading) {
@@ -117,9 +93,13 @@ function Reports() {
     )
   }
 
-  const stats = calculateStats()
-  const expenseBreakdown = getCategoryBreakdown()
-  const incomeBreakdown = getIncomeBreakdown()
+  const stats = {
+    income: report ? report.totalIncome : 0,
+    expenses: report ? report.totalExpenses : 0,
+    netIncome: report ? report.netIncome : 0
+  }
+  const expenseBreakdown = report ? report.expensesByCategory : []
+  const incomeBreakdown = report ? report.incomeByCategory : []
   const totalExpenses = expenseBreakdown.reduce((sum, cat) => sum + cat.amount, 0)
   const totalIncome = incomeBreakdown.reduce((sum, cat) => sum + cat.amount, 0)
 
@@ -407,7 +387,7 @@ function Reports() {
           </div>
         )}
 
-        {transactions.length === 0 && (
+        {(!report || report.transactionCount === 0) && (
           <div style={{
             background: 'white',
             padding: '60px',
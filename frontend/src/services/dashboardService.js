@@ -0,0 +1,17 @@
+import axios from 'axios';
+import authService from './authService';
+
+const API_URL = '/api/dashboard';
+
+const getDashboard = async () => {
+  const response = await axios.get(API_URL, {
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
+const dashboardService = {
+  getDashboard
+};
+
+export default dashboardService;
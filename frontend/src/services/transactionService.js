@@ -10,6 +10,14 @@ const getAllTransactions = async () => {
   return response.data;
 };
 
+const getTransactionPage = async (cursor, size) => {
+  const response = await axios.get(API_URL, {
+    params: { cursor, size },
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
 const getTransactionById = async (id) => {
   const response = await axios.get(`${API_URL}/${id}`, {
     headers: authService.getAuthHeader()
@@ -32,6 +40,41 @@ const getTransactionsByDateRange = async (startDate, endDate) => {
   return response.data;
 };
 
+const getReport = async (startDate, endDate) => {
+  const response = await axios.get(`${API_URL}/report`, {
+    params: { startDate, endDate },
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
+// filter: { startDate, endDate, minAmount, maxAmount, type: [], category: [], accountId: [], description }
+const filterTransactions = async (filter, cursor, size) => {
+  const response = await axios.get(`${API_URL}/filter`, {
+    params: { ...filter, cursor, size },
+    // Repeated keys (type=A&type=B) rather than type[]=A
+    paramsSerializer: { indexes: null },
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
+const searchTransactions = async (q, cursor, size) => {
+  const response = await axios.get(`${API_URL}/search`, {
+    params: { q, cursor, size },
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
+const getCashFlow = async (startDate, endDate, interval = 'month') => {
+  const response = await axios.get(`${API_URL}/cash-flow`, {
+    params: { startDate, endDate, interval },
+    headers: authService.getAuthHeader()
+  });
+  return response.data;
+};
+
 const createTransaction = async (transactionData) => {
   const response = await axios.post(API_URL, transactionData, {
     headers: authService.getAuthHeader()
@@ -55,9 +98,14 @@ const deleteTransaction = async (id) => {
 
 const transactionService = {
   getAllTransactions,
+  getTransactionPage,
   getTransactionById,
   getTransactionsByAccount,
   getTransactionsByDateRange,
+  getReport,
+  getCashFlow,
+  searchTransactions,
+  filterTransactions,
   createTransaction,
   updateTransaction,
   deleteTransaction